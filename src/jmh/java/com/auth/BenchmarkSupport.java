@@ -0,0 +1,33 @@
+package com.auth;
+
+import java.lang.reflect.Field;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Benchmark 공용 유틸
+ * - Spring 컨텍스트 없이 @Value 필드를 직접 주입하기 위해 사용
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    // HS256용 임의의 Base64 secret 생성
+    public static String randomSecret() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+}
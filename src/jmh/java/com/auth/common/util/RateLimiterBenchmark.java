@@ -0,0 +1,55 @@
+package com.auth.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimiter 동시 처리량 (모든 코어에서 동시에 호출)
+ * - distinct : 스레드마다 다른 키 (클라이언트가 많은 일반적인 상황, 경합 없음)
+ * - spread   : 10만 개 키 중 임의 선택
+ * - hot      : 모든 스레드가 같은 키 (같은 AtomicLong 에 CAS 경합, 최악의 경우)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class RateLimiterBenchmark {
+
+    private static final int KEY_COUNT = 100_000;
+
+    private RateLimiter rateLimiter;
+    private String[] keys;
+
+    @State(Scope.Thread)
+    public static class ThreadKey {
+        private final String key = "10.0." + Thread.currentThread().getId();
+    }
+
+    @Setup
+    public void setUp() {
+        // 거절 여부와 관계없이 버킷 갱신 비용만 측정하도록 충분히 큰 한도 사용
+        rateLimiter = new RateLimiter(1_000_000_000, 1_000_000, KEY_COUNT * 2L);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "10." + (i >> 16) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public long distinct(ThreadKey threadKey) {
+        return rateLimiter.tryAcquire(threadKey.key);
+    }
+
+    @Benchmark
+    public long spread() {
+        return rateLimiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    @Benchmark
+    public long hot() {
+        return rateLimiter.tryAcquire("10.0.0.1");
+    }
+
+}
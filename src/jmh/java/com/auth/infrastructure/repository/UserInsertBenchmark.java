@@ -0,0 +1,78 @@
+package com.auth.infrastructure.repository;
+
+import com.auth.AuthApplication;
+import com.auth.BenchmarkSupport;
+import com.auth.domain.entity.User;
+import com.auth.domain.entity.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * User INSERT 처리량 (H2 메모리 DB, 트랜잭션당 BATCH 건)
+ * - per-row : allocationSize 1 (orm.xml 재정의), INSERT 마다 시퀀스 조회
+ * - pooled  : allocationSize 50 (User 기본값), pooled-lo 로 시퀀스 한 번에 50개 ID 할당
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(UserInsertBenchmark.BATCH)
+public class UserInsertBenchmark {
+
+    static final int BATCH = 100;
+
+    // 행 단위 할당으로 바꾸는 ID 매핑 재정의 (src/jmh/resources)
+    private static final String PER_ROW_MAPPING = "META-INF/users-id-per-row.xml";
+
+    @Param({"per-row", "pooled"})
+    private String strategy;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(AuthApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID(),
+                        "jwt.secret.key=" + BenchmarkSupport.randomSecret(),
+                        "token.time=3600000",
+                        "admin.key=benchmark");
+        if ("per-row".equals(strategy)) {
+            builder.properties("spring.jpa.mapping-resources=" + PER_ROW_MAPPING);
+        }
+        context = builder.run();
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insert() {
+        List<User> users = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            users.add(User.builder()
+                    .username("user" + sequence.incrementAndGet())
+                    .nickname("nickname")
+                    .password("{bcrypt}encoded")
+                    .userRole(UserRole.USER)
+                    .build());
+        }
+        return transactionTemplate.execute(status -> userRepository.saveAll(users).size());
+    }
+
+}
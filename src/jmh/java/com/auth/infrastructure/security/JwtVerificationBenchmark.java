@@ -0,0 +1,69 @@
+package com.auth.infrastructure.security;
+
+import com.auth.BenchmarkSupport;
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.security.key.SigningAlgorithm;
+import com.auth.infrastructure.security.key.SigningKeyRing;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 검증 비용 비교
+ * - legacy : validateToken + getUserInfoFromToken (parser 2회 생성, 서명 2회 검증)
+ * - single : verifyToken (parser 재사용, 서명 1회 검증)
+ * - cached : verifyToken + VerifiedTokenCache hit (서명 검증 생략)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private Key key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secret = BenchmarkSupport.randomSecret();
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+
+        SigningKeyRing keyRing = new SigningKeyRing(SigningAlgorithm.HS256, secret, "", event -> {
+        });
+        jwtUtil = createJwtUtil(keyRing, new VerifiedTokenCache(false, 0));
+        cachedJwtUtil = createJwtUtil(keyRing, new VerifiedTokenCache(true, 10_000));
+
+        token = jwtUtil.createToken("username", UserRole.USER).substring(JwtUtil.BEARER_PREFIX.length());
+        cachedJwtUtil.verifyToken(token);
+    }
+
+    private JwtUtil createJwtUtil(SigningKeyRing keyRing, VerifiedTokenCache cache) {
+        JwtUtil util = new JwtUtil(cache, keyRing);
+        BenchmarkSupport.setField(util, "TOKEN_TIME", TimeUnit.HOURS.toMillis(1));
+        util.init();
+        return util;
+    }
+
+    @Benchmark
+    public Claims legacy() {
+        Jwts.parser().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims single() {
+        return jwtUtil.verifyToken(token).getClaims();
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return cachedJwtUtil.verifyToken(token).getClaims();
+    }
+
+}
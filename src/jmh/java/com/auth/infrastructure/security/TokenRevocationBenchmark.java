@@ -0,0 +1,56 @@
+package com.auth.infrastructure.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기 목록 100만 건 상태에서 요청당 폐기 여부 확인 비용
+ * - notRevoked : 대부분의 요청 (Bloom Filter 에서 바로 false)
+ * - revoked    : 폐기된 토큰 (Bloom Filter + 정확한 집합 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenRevocationBenchmark {
+
+    private static final int REVOKED_ENTRIES = 1_000_000;
+    private static final int SAMPLES = 1024;
+
+    private TokenRevocationRegistry registry;
+    private String[] revokedJtis;
+    private String[] activeJtis;
+
+    @Setup
+    public void setUp() {
+        registry = new TokenRevocationRegistry(null, REVOKED_ENTRIES, 0.01);
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+
+        revokedJtis = new String[SAMPLES];
+        for (int i = 0; i < REVOKED_ENTRIES; i++) {
+            String jti = UUID.randomUUID().toString();
+            registry.register(jti, expiresAt);
+            if (i < SAMPLES) {
+                revokedJtis[i] = jti;
+            }
+        }
+
+        activeJtis = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            activeJtis[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return registry.isRevoked(activeJtis[ThreadLocalRandom.current().nextInt(SAMPLES)]);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return registry.isRevoked(revokedJtis[ThreadLocalRandom.current().nextInt(SAMPLES)]);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.auth.infrastructure.security;
+
+import com.auth.AuthApplication;
+import com.auth.BenchmarkSupport;
+import com.auth.domain.entity.User;
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 경로의 사용자 조회 비용 (H2 메모리 DB, 사용자 캐시 비활성화)
+ * - entity     : User 엔티티 전체 로딩 후 스냅샷 변환 (기존 방식)
+ * - projection : 인증에 필요한 컬럼만 UserCredentials 로 조회 후 스냅샷 변환
+ * - 할당량 비교는 -prof gc 로 실행 (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserLookupBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private String[] usernames;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AuthApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID(),
+                        "user.cache.enabled=false",
+                        "jwt.secret.key=" + BenchmarkSupport.randomSecret(),
+                        "token.time=3600000",
+                        "admin.key=benchmark")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+
+        usernames = new String[USERS];
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            usernames[i] = "user" + i;
+            users.add(User.builder()
+                    .username(usernames[i])
+                    .nickname("nickname" + i)
+                    .password("{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6rrE4hz1MzeVSwMXVn7t2kS")
+                    .userRole(UserRole.USER)
+                    .build());
+        }
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> userRepository.saveAll(users));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserSnapshot entity() {
+        return UserSnapshot.from(userRepository.findByUsername(randomUsername()).orElseThrow());
+    }
+
+    @Benchmark
+    public UserSnapshot projection() {
+        return UserSnapshot.from(userRepository.findCredentialsByUsername(randomUsername()).orElseThrow());
+    }
+
+    private String randomUsername() {
+        return usernames[ThreadLocalRandom.current().nextInt(USERS)];
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.auth.infrastructure.security.filter;
+
+import com.auth.presentation.dto.LoginResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 응답 직렬화 비용 비교
+ * - newMapper    : 요청마다 new ObjectMapper() + Map 직렬화 (기존 방식)
+ * - sharedWriter : 공유 ObjectMapper 에서 미리 만든 ObjectWriter 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoginResponseSerializationBenchmark {
+
+    private static final String TOKEN = "Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VybmFtZSIsImF1dGgiOiJVU0VSIn0.signature";
+    private static final String REFRESH_TOKEN = "q3k9Z0d8l1xv2mA7cQ4yR6tB5nE0sW8uJ1hG2fK3pL4";
+
+    private ObjectWriter loginResponseWriter;
+
+    @Setup
+    public void setUp() {
+        loginResponseWriter = new ObjectMapper().writerFor(LoginResponse.class);
+    }
+
+    @Benchmark
+    public byte[] newMapper() throws Exception {
+        Map<String, String> body = new HashMap<>();
+        body.put("token", TOKEN);
+        body.put("refreshToken", REFRESH_TOKEN);
+        return new ObjectMapper().writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] sharedWriter() throws Exception {
+        return loginResponseWriter.writeValueAsBytes(new LoginResponse(TOKEN, REFRESH_TOKEN));
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.auth.infrastructure.security.key;
+
+import com.auth.BenchmarkSupport;
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.infrastructure.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 서명 알고리즘별 토큰 발급/검증 처리량 비교 (HS256, ES256, EdDSA)
+ * - 검증 캐시(VerifiedTokenCache)는 끄고 매번 서명을 검증한다.
+ * - 비대칭 키는 임시 디렉터리에 PEM 파일로 만들어 키 링이 읽게 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    private SigningAlgorithm algorithm;
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private Path keyLocation;
+
+    @Setup
+    public void setUp() throws IOException, GeneralSecurityException {
+        long tokenTime = TimeUnit.HOURS.toMillis(1);
+        keyLocation = Files.createTempDirectory("signing-keys");
+        if (algorithm.isAsymmetric()) {
+            writeKeyPair(algorithm, keyLocation);
+        }
+        SigningKeyRing keyRing = new SigningKeyRing(algorithm, BenchmarkSupport.randomSecret(), keyLocation.toString(), event -> {
+        });
+
+        jwtUtil = new JwtUtil(new VerifiedTokenCache(false, 0), keyRing);
+        BenchmarkSupport.setField(jwtUtil, "TOKEN_TIME", tokenTime);
+        jwtUtil.init();
+
+        token = sign().substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(keyLocation)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(keyLocation);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.createToken(1L, "username", UserRole.USER);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return jwtUtil.verifyToken(token).getClaims();
+    }
+
+    // 키 쌍을 {kid}.pub, {kid}.key PEM 파일로 저장
+    private static void writeKeyPair(SigningAlgorithm algorithm, Path location) throws IOException, GeneralSecurityException {
+        KeyPairGenerator generator;
+        if (algorithm == SigningAlgorithm.ES256) {
+            generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+        } else {
+            generator = KeyPairGenerator.getInstance("Ed25519");
+        }
+        KeyPair keyPair = generator.generateKeyPair();
+        Files.writeString(location.resolve("benchmark" + SigningKeyRing.PUBLIC_KEY_SUFFIX), pem("PUBLIC KEY", keyPair.getPublic()));
+        Files.writeString(location.resolve("benchmark" + SigningKeyRing.PRIVATE_KEY_SUFFIX), pem("PRIVATE KEY", keyPair.getPrivate()));
+    }
+
+    private static String pem(String type, Key key) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(key.getEncoded())
+                + "\n-----END " + type + "-----\n";
+    }
+
+}
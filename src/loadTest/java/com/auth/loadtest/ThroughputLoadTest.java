@@ -0,0 +1,113 @@
+package com.auth.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 인증이 필요한 API(/api/test)에 대한 동시 연결 처리량 측정
+ * - 플랫폼 스레드 모드와 가상 스레드 모드(virtual-threads 프로필)로 각각 서버를 띄운 뒤 실행해 결과를 비교한다.
+ * - 사용법 : ./gradlew loadTest -PbaseUrl=http://localhost:8080 -Pconcurrency=10000 -Pduration=60
+ */
+public class ThroughputLoadTest {
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        long durationSeconds = args.length > 2 ? Long.parseLong(args[2]) : 60;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2))
+                .build();
+
+        String token = issueToken(client, baseUrl);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/test"))
+                .header("Authorization", token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        LongAdder success = new LongAdder();
+        LongAdder failure = new LongAdder();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        System.out.printf("target: %s, concurrency: %d, duration: %ds%n", baseUrl, concurrency, durationSeconds);
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        while (System.nanoTime() < end) {
+            inFlight.acquire();
+            long sentAt = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, throwable) -> {
+                        if (throwable == null && response.statusCode() == 200) {
+                            success.increment();
+                            latencies.add(System.nanoTime() - sentAt);
+                        } else {
+                            failure.increment();
+                        }
+                        inFlight.release();
+                    });
+        }
+
+        // 남은 요청 완료 대기
+        inFlight.acquire(concurrency);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("requests: %d, errors: %d, throughput: %.1f req/s%n",
+                success.sum(), failure.sum(), success.sum() / elapsedSeconds);
+        if (sorted.length > 0) {
+            System.out.printf("latency p50: %.1fms, p99: %.1fms, max: %.1fms%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1_000_000.0);
+        }
+        System.exit(0);
+    }
+
+    // 테스트용 사용자 가입 후 로그인하여 토큰 발급
+    private static String issueToken(HttpClient client, String baseUrl) throws Exception {
+        String username = "load-" + UUID.randomUUID().toString().substring(0, 8);
+        String password = "password";
+
+        client.send(jsonPost(baseUrl + "/signup",
+                "{\"username\":\"" + username + "\",\"password\":\"" + password + "\",\"nickname\":\"load\"}"),
+                HttpResponse.BodyHandlers.discarding());
+
+        HttpResponse<String> login = client.send(jsonPost(baseUrl + "/login",
+                "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"),
+                HttpResponse.BodyHandlers.ofString());
+
+        Matcher matcher = TOKEN_PATTERN.matcher(login.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("로그인 실패: " + login.statusCode() + " " + login.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpRequest jsonPost(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+}
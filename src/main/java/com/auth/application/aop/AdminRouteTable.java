@@ -0,0 +1,159 @@
+package com.auth.application.aop;
+
+import com.auth.domain.entity.UserRole;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @ValidateAdmin 이 붙은 handler 의 경로 -> 허용 권한 표
+ * - 시작 시 RequestMappingHandlerMapping 의 handler 목록을 한 번 읽어 불변 목록으로 구성
+ * - 요청마다 AOP 프록시/리플렉션 없이 필터(AdminRouteFilter)에서 확인하고, actuator(adminroutes)로 조회 가능
+ */
+@Slf4j
+@Component
+public class AdminRouteTable {
+
+    private final List<AdminRoute> routes;
+
+    // 보호 경로의 고정 접두사 (대부분의 요청은 경로 파싱 없이 여기서 제외)
+    private final String[] literalPrefixes;
+
+    public AdminRouteTable(@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        List<AdminRoute> routes = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            ValidateAdmin validateAdmin = entry.getValue().getMethodAnnotation(ValidateAdmin.class);
+            if (validateAdmin != null) {
+                routes.add(new AdminRoute(entry.getKey(), entry.getValue(), AllowedRoles.of(entry.getValue().getMethod(), validateAdmin)));
+            }
+        }
+        this.routes = List.copyOf(routes);
+        this.literalPrefixes = this.routes.stream()
+                .flatMap(route -> route.getPatterns().stream())
+                .map(AdminRouteTable::literalPrefix)
+                .distinct()
+                .toArray(String[]::new);
+
+        routes.forEach(route -> log.info("Admin route: {} {} -> {}", route.getMethods(), route.getPatterns(), route.getRoles()));
+    }
+
+    /**
+     * 요청에 필요한 권한 조회
+     * - DispatcherServlet 과 같은 방식으로 경로를 파싱(디코딩)하고 RequestMappingInfo 로 매칭
+     * - 인코딩된 경로(예: /%61dmin/...)도 MVC 가 dispatch 하는 handler 기준으로 확인된다.
+     *
+     * @param request : 요청
+     * @return : 허용 권한 집합, 권한 확인이 필요 없는 요청이면 null
+     */
+    public Set<UserRole> findAllowedRoles(HttpServletRequest request) {
+        // CORS preflight 는 handler 를 실행하지 않음
+        if (CorsUtils.isPreFlightRequest(request)) {
+            return null;
+        }
+
+        boolean parsed = ServletRequestPathUtils.hasParsedRequestPath(request);
+        RequestPath requestPath = parsed
+                ? ServletRequestPathUtils.getParsedRequestPath(request)
+                : ServletRequestPathUtils.parseAndCache(request);
+        try {
+            if (!startsWithAnyPrefix(decodedPath(requestPath.pathWithinApplication()))) {
+                return null;
+            }
+
+            for (AdminRoute route : routes) {
+                if (route.matches(request)) {
+                    return route.getRoles();
+                }
+            }
+            return null;
+        } finally {
+            // 필터에서 파싱한 경로는 DispatcherServlet 이 다시 파싱하도록 제거
+            if (!parsed) {
+                ServletRequestPathUtils.clearParsedRequestPath(request);
+            }
+        }
+    }
+
+    /**
+     * 권한 확인 대상 경로 목록 (감사/조회용)
+     *
+     * @return : 불변 목록
+     */
+    public List<AdminRoute> getRoutes() {
+        return routes;
+    }
+
+    private boolean startsWithAnyPrefix(String path) {
+        for (String prefix : literalPrefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 세그먼트별로 디코딩한 경로 (matrix 변수 제외, PathPattern 이 비교하는 값과 같음)
+    private static String decodedPath(PathContainer path) {
+        StringBuilder builder = new StringBuilder();
+        for (PathContainer.Element element : path.elements()) {
+            builder.append(element instanceof PathContainer.PathSegment segment ? segment.valueToMatch() : element.value());
+        }
+        return builder.toString();
+    }
+
+    // 경로 변수/와일드카드 이전까지의 고정 문자열
+    private static String literalPrefix(String pattern) {
+        int end = pattern.length();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '{' || c == '*' || c == '?') {
+                end = i;
+                break;
+            }
+        }
+        return pattern.substring(0, end);
+    }
+
+    @Getter
+    public static final class AdminRoute {
+
+        private final Set<RequestMethod> methods;
+        private final List<String> patterns;
+        private final Set<UserRole> roles;
+        private final String handler;
+
+        @Getter(AccessLevel.NONE)
+        private final RequestMappingInfo info;
+
+        private AdminRoute(RequestMappingInfo info, HandlerMethod handlerMethod, Set<UserRole> roles) {
+            this.methods = Set.copyOf(info.getMethodsCondition().getMethods());
+            this.patterns = List.copyOf(info.getPatternValues());
+            this.roles = roles;
+            this.handler = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+            this.info = info;
+        }
+
+        // 메서드/경로/params/headers/consumes 조건을 MVC 와 같은 RequestMappingInfo 로 비교
+        private boolean matches(HttpServletRequest request) {
+            return info.getMatchingCondition(request) != null;
+        }
+
+    }
+
+}
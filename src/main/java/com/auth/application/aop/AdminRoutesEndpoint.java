@@ -0,0 +1,27 @@
+package com.auth.application.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 권한이 필요한 경로 목록 조회 (actuator : /actuator/adminroutes)
+ * - 노출하려면 management.endpoints.web.exposure.include 에 adminroutes 추가
+ * - /actuator/** 는 SecurityConfig 에서 ADMIN 권한만 접근 가능
+ */
+@Component
+@Endpoint(id = "adminroutes")
+@RequiredArgsConstructor
+public class AdminRoutesEndpoint {
+
+    private final AdminRouteTable adminRouteTable;
+
+    @ReadOperation
+    public List<AdminRouteTable.AdminRoute> routes() {
+        return adminRouteTable.getRoutes();
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.auth.application.aop;
+
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.security.UserDetailsImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * @ValidateAdmin 권한 확인 유틸
+ * - roles() 문자열은 한 번만 EnumSet 으로 변환해 두고, 요청마다 EnumSet.contains (bit 연산) 로 확인
+ * - 알 수 없는 권한 문자열은 시작 시 AdminRouteTable 구성 단계에서 실패 (요청 처리 중 예외로 남기지 않음)
+ */
+public final class AllowedRoles {
+
+    private AllowedRoles() {
+    }
+
+    /**
+     * @ValidateAdmin 의 roles() 를 EnumSet 으로 변환 ("ADMIN", "ROLE_ADMIN" 모두 허용)
+     *
+     * @param method        : 어노테이션이 붙은 메서드 (오류 메시지용)
+     * @param validateAdmin : 권한 어노테이션
+     * @return : 허용 권한 집합 (수정 금지)
+     * @throws IllegalStateException : 알 수 없는 권한 문자열이 있는 경우
+     */
+    public static Set<UserRole> of(Method method, ValidateAdmin validateAdmin) {
+        EnumSet<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        for (String role : validateAdmin.roles()) {
+            UserRole userRole = UserRole.fromAuthority(role);
+            if (userRole == null) {
+                throw new IllegalStateException("Unknown role '" + role + "' in @ValidateAdmin on "
+                        + method.getDeclaringClass().getName() + "#" + method.getName());
+            }
+            roles.add(userRole);
+        }
+        return roles;
+    }
+
+    /**
+     * 인증 객체의 권한
+     * - UserDetailsImpl 이면 사용자 권한을 바로 사용하고, 그 외에는 GrantedAuthority 로 판단
+     *
+     * @param authentication : 인증 객체
+     * @return : 권한, 확인할 수 없으면 null
+     */
+    public static UserRole currentRole(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails.getUser().getUserRole();
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            UserRole role = UserRole.fromAuthority(authority.getAuthority());
+            if (role != null) {
+                return role;
+            }
+        }
+        return null;
+    }
+
+}
@@ -1,54 +1,63 @@
 package com.auth.application.aop;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.auth.common.exception.CustomException;
-import com.auth.infrastructure.security.UserDetailsImpl;
+import com.auth.domain.entity.UserRole;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.springframework.http.HttpStatus;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.auth.common.exception.ErrorCode.ACCESS_DENIED;
 import static com.auth.common.exception.ErrorCode.INVALID_TOKEN;
 
+/**
+ * @ValidateAdmin 권한 확인 (security.admin-check.mode=aspect)
+ * - 기본값(filter)에서는 AdminRouteFilter 가 dispatch 전에 같은 확인을 수행하므로 등록하지 않는다.
+ */
 @Aspect
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "security.admin-check.mode", havingValue = "aspect")
 public class ValidateAdminAspect {
 
-    @Around("@annotation(validateUser)")
+    // 메서드별 허용 권한 (첫 호출 시 한 번만 변환)
+    private final Map<Method, Set<UserRole>> allowedRolesCache = new ConcurrentHashMap<>();
+
+    @Around("@annotation(validateAdmin)")
     public Object validateUserRole(ProceedingJoinPoint joinPoint, ValidateAdmin validateAdmin) throws Throwable {
-        // 현재 Authentication 객체에서 principal 추출
+        // 현재 Authentication 객체 확인
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        // principal이 null이거나, UserDetails가 아니라면
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
             log.warn("인증 객체가 없습니다.");
             throw new CustomException(INVALID_TOKEN);
         }
 
         // 사용자 역할 확인
-        String currentRole = userDetails.getUser().getUserRole().name();
-        String[] allowedRoles = validateAdmin.roles();
-
-        boolean authorized = Arrays.stream(allowedRoles)
-                .anyMatch(role -> role.equalsIgnoreCase(currentRole));
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Set<UserRole> allowedRoles = allowedRolesCache.get(method);
+        if (allowedRoles == null) {
+            allowedRoles = allowedRolesCache.computeIfAbsent(method, key -> AllowedRoles.of(key, validateAdmin));
+        }
+        UserRole currentRole = AllowedRoles.currentRole(authentication);
 
-        if (!authorized) {
-            log.warn("Access denied. userId: {}, role: {}, allowedRoles: {}", userDetails.getUsername(), currentRole, Arrays.toString(allowedRoles));
+        if (currentRole == null || !allowedRoles.contains(currentRole)) {
+            log.warn("Access denied. username: {}, role: {}, allowedRoles: {}", authentication.getName(), currentRole, allowedRoles);
             throw new CustomException(ACCESS_DENIED);
         }
 
         return joinPoint.proceed();
     }
 }
-
@@ -2,15 +2,28 @@ package com.auth.application.service;
 
 import com.auth.common.exception.CustomException;
 import com.auth.common.exception.ErrorCode;
+import com.auth.common.util.ConstraintViolations;
 import com.auth.domain.entity.User;
 import com.auth.domain.entity.UserRole;
+import com.auth.domain.event.UserChangedEvent;
+import com.auth.infrastructure.repository.UserIdentity;
 import com.auth.infrastructure.repository.UserRepository;
+import com.auth.infrastructure.repository.UserSummary;
 import com.auth.presentation.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -18,9 +31,15 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     @Value("${admin.key}")
     private String adminKey;
 
+    // 권한 일괄 변경 시 UPDATE 한 번에 포함하는 사용자 수
+    @Value("${user.role-change.chunk-size:1000}")
+    private int roleChangeChunkSize;
+
     /**
      * 회원가입
      *
@@ -28,17 +47,14 @@ public class AuthService {
      * @return : 회원가입 성공 DTO 반환
      */
     public SignUpResponse signUp(SignUpRequest request) {
-        // 1. username이 동일한 사용자가 있는지 확인
-        validateUsernameDuplication(request.getUsername());
-
-        // 2. password 인코딩
+        // 1. password 인코딩 (트랜잭션 밖에서 수행해 해싱 동안 DB 커넥션을 잡지 않음)
         String encodedPassword = passwordEncoder.encode(request.getPassword());
 
-        // 3. User 생성
+        // 2. User 생성
         User user = request.to(encodedPassword);
 
-        // 4. User 저장
-        User savedUser = userRepository.save(user);
+        // 3. User 저장 (username 중복은 unique 제약조건으로 판별)
+        User savedUser = insertUser(user);
 
         return SignUpResponse.from(savedUser);
     }
@@ -50,22 +66,19 @@ public class AuthService {
      * @return : 관리자 회원가입 완료 DTO 반환
      */
     public AdminSignUpResponse adminSignUp(AdminSignUpRequest request) {
-        // 1. username이 동일한 사용자가 있는지 확인
-        validateUsernameDuplication(request.getUsername());
-
-        // 2. 관리자 암호와 일치하지 않는 경우
+        // 1. 관리자 암호와 일치하지 않는 경우
         if (!request.getAdminKey().equals(adminKey)) {
             throw new CustomException(ErrorCode.INVALID_ADMIN_KEY);
         }
 
-        // 3. password 인코딩
+        // 2. password 인코딩
         String encodedPassword = passwordEncoder.encode(request.getPassword());
 
-        // 4. User 생성
+        // 3. User 생성
         User user = request.to(encodedPassword);
 
-        // 5. User 저장
-        User savedUser = userRepository.save(user);
+        // 4. User 저장 (username 중복은 unique 제약조건으로 판별)
+        User savedUser = insertUser(user);
 
         return AdminSignUpResponse.from(savedUser);
     }
@@ -84,15 +97,68 @@ public class AuthService {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
 
-        // 2. 권한을 변경하려는 사용자 검증
-        User findUser = findUser(userId);
+        // 2. 권한을 변경하려는 사용자 검증 (응답에 필요한 값만 조회, 엔티티 로딩 없음)
+        UserSummary findUser = findUser(userId);
+
+        // 3. 해당 사용자의 권한을 Admin으로 변경 (UPDATE 한 번)
+        userRepository.updateUserRole(List.of(findUser.getUserId()), UserRole.ADMIN);
 
-        // 3. 해당 사용자의 권한을 Admin으로 변경
-        findUser.updateUserRole(UserRole.ADMIN);
-        userRepository.save(findUser);
+        // 캐시된 사용자 정보 무효화 (커밋 후)
+        eventPublisher.publishEvent(new UserChangedEvent(findUser.getUsername()));
 
         // 4. 결과 반환
-        return SwitchRoleResponse.from(findUser);
+        return SwitchRoleResponse.of(findUser.getUsername(), findUser.getNickname(), UserRole.ADMIN);
+    }
+
+    /**
+     * 여러 사용자의 권한을 한 번에 변경
+     * - 대상 사용자(ID, 사용자명)만 projection 으로 조회하고, chunk 마다 UPDATE 한 번으로 변경 (엔티티 로딩 없음)
+     * - 이미 같은 권한인 사용자는 제외하고, 변경된 사용자는 UserChangedEvent 로 캐시된 인증 정보를 무효화 (커밋 후)
+     *
+     * @param request : 대상 사용자 ID 목록 또는 사용자명 패턴, 변경할 권한
+     * @param user    : 권한을 변경하는 사용자
+     * @return : 권한이 변경된 사용자 수와 사용자명 목록 반환
+     */
+    @Transactional
+    public BulkRoleChangeResponse switchRoles(BulkRoleChangeRequest request, User user) {
+        // 1. 현재 사용자 검증
+        if (!user.getUserRole().equals(UserRole.ADMIN)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
+
+        // 2. 대상 지정 방식 검증 (ID 목록과 사용자명 패턴 중 하나만)
+        boolean byUserIds = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        boolean byPattern = StringUtils.hasText(request.getUsernamePattern());
+        if (byUserIds == byPattern) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 3. chunk 단위로 대상 조회 후 일괄 변경
+        UserRole role = request.getRole();
+        List<String> usernames = new ArrayList<>();
+        int updatedCount = 0;
+        if (byUserIds) {
+            List<Long> userIds = request.getUserIds().stream().distinct().toList();
+            for (int from = 0; from < userIds.size(); from += roleChangeChunkSize) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + roleChangeChunkSize, userIds.size()));
+                updatedCount += updateUserRole(userRepository.findRoleChangeTargets(chunk, role), role, usernames);
+            }
+        } else {
+            String pattern = toLikePattern(request.getUsernamePattern());
+            Pageable page = PageRequest.of(0, roleChangeChunkSize);
+            long afterUserId = Long.MIN_VALUE;
+            List<UserIdentity> targets;
+            do {
+                targets = userRepository.findRoleChangeTargetsByUsername(pattern, role, afterUserId, page);
+                if (!targets.isEmpty()) {
+                    updatedCount += updateUserRole(targets, role, usernames);
+                    afterUserId = targets.get(targets.size() - 1).getUserId();
+                }
+            } while (targets.size() == roleChangeChunkSize);
+        }
+
+        // 4. 결과 반환 (변경 수는 UPDATE 에 반영된 행 수)
+        return new BulkRoleChangeResponse(role, updatedCount, usernames);
     }
 
     /**
@@ -101,20 +167,67 @@ public class AuthService {
      * @param userId : 찾을 사용자의 ID
      * @return : 찾은 사용자 반환
      */
-    private User findUser(Long userId) {
-        return userRepository.findById(userId).orElseThrow(
+    private UserSummary findUser(Long userId) {
+        return userRepository.findSummaryById(userId).orElseThrow(
                 () -> new CustomException(ErrorCode.USER_NOT_FOUND)
         );
     }
 
     /**
-     * 중복된 Username을 가진 사용자가 있는지 판별
+     * 신규 사용자 저장
+     * - 존재 여부를 먼저 조회하지 않고 INSERT 한 번으로 처리하며, 동시에 같은 username 으로 가입하면
+     *   DB 의 unique 제약조건(uk_users_username)이 하나만 통과시킨다.
+     * - 트랜잭션 안에서 flush 해 제약조건 위반을 여기서 받아 USER_ALREADY_EXISTS 로 변환
+     *
+     * @param user : 저장할 사용자
+     * @return : 저장된 사용자 반환
+     */
+    private User insertUser(User user) {
+        try {
+            return transactionTemplate.execute(status -> {
+                User savedUser = userRepository.saveAndFlush(user);
+                eventPublisher.publishEvent(new UserChangedEvent(savedUser.getUsername()));
+                return savedUser;
+            });
+        } catch (DataIntegrityViolationException exception) {
+            if (ConstraintViolations.isViolationOf(exception, User.USERNAME_UNIQUE_CONSTRAINT)) {
+                throw new CustomException(ErrorCode.USER_ALREADY_EXISTS);
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * 대상 사용자들의 권한 변경 후 캐시된 사용자 정보 무효화 (커밋 후)
      *
-     * @param username : 사용자명
+     * @param targets   : 권한을 변경할 사용자
+     * @param role      : 변경할 권한
+     * @param usernames : 변경된 사용자명을 추가할 목록
+     * @return : UPDATE 에 반영된 행 수
      */
-    private void validateUsernameDuplication(String username) {
-        if (userRepository.existsByUsername(username)) {
-            throw new CustomException(ErrorCode.USER_ALREADY_EXISTS);
+    private int updateUserRole(List<UserIdentity> targets, UserRole role, List<String> usernames) {
+        if (targets.isEmpty()) {
+            return 0;
         }
+        int updated = userRepository.updateUserRole(targets.stream().map(UserIdentity::getUserId).toList(), role);
+        for (UserIdentity target : targets) {
+            usernames.add(target.getUsername());
+            eventPublisher.publishEvent(new UserChangedEvent(target.getUsername()));
+        }
+        return updated;
+    }
+
+    /**
+     * 사용자명 패턴을 LIKE 패턴으로 변환 (* 만 와일드카드로 사용하고 %, _ 는 문자 그대로 비교)
+     *
+     * @param usernamePattern : 사용자명 패턴 (예: team-a-*)
+     * @return : LIKE 패턴 (escape 문자 \)
+     */
+    private String toLikePattern(String usernamePattern) {
+        return usernamePattern
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_")
+                .replace('*', '%');
     }
 }
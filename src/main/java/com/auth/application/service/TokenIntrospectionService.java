@@ -0,0 +1,111 @@
+package com.auth.application.service;
+
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.infrastructure.security.TokenRevocationRegistry;
+import com.auth.infrastructure.security.TokenVerification;
+import com.auth.presentation.dto.TokenIntrospectionResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 게이트웨이용 토큰 일괄 검증
+ * - 검증은 JwtUtil.verifyToken + 폐기 목록 확인으로 필터(JwtAuthorizationFilter)와 동일하게 수행
+ * - 서명 검증은 CPU 작업이므로 큰 배치는 parallel stream 으로 코어 수만큼 나누어 처리
+ */
+@Service
+public class TokenIntrospectionService {
+
+    public static final String REVOKED = "REVOKED";
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final ObjectWriter resultWriter;
+
+    // 이 개수 이상이면 병렬 검증
+    private final int parallelThreshold;
+
+    // 스트리밍 응답 시 한 번에 검증/기록하는 토큰 수
+    private final int chunkSize;
+
+    public TokenIntrospectionService(JwtUtil jwtUtil, TokenRevocationRegistry tokenRevocationRegistry, ObjectMapper objectMapper,
+                                     @Value("${token.introspect.parallel-threshold:64}") int parallelThreshold,
+                                     @Value("${token.introspect.chunk-size:1024}") int chunkSize) {
+        this.jwtUtil = jwtUtil;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.resultWriter = objectMapper.writerFor(TokenIntrospectionResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // chunk 단위로만 flush
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 토큰 일괄 검증
+     *
+     * @param tokens : 검증할 토큰 목록
+     * @return : 토큰별 검증 결과 (요청 순서 유지)
+     */
+    public List<TokenIntrospectionResponse> introspect(List<String> tokens) {
+        Stream<String> stream = tokens.size() >= parallelThreshold ? tokens.parallelStream() : tokens.stream();
+        return stream.map(this::introspectToken).toList();
+    }
+
+    /**
+     * 토큰 일괄 검증 결과를 JSON 으로 바로 기록 ({"data":[...]})
+     * - chunkSize 단위로 검증하고 기록/flush 하므로 전체 결과를 메모리에 모으지 않고,
+     *   게이트웨이는 앞쪽 결과부터 받아볼 수 있다. (chunked 응답)
+     *
+     * @param tokens       : 검증할 토큰 목록
+     * @param outputStream : 응답 스트림
+     */
+    public void writeIntrospection(List<String> tokens, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = resultWriter.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            for (int from = 0; from < tokens.size(); from += chunkSize) {
+                List<String> chunk = tokens.subList(from, Math.min(from + chunkSize, tokens.size()));
+                for (TokenIntrospectionResponse result : introspect(chunk)) {
+                    resultWriter.writeValue(generator, result);
+                }
+                generator.flush();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private TokenIntrospectionResponse introspectToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return TokenIntrospectionResponse.inactive(TokenVerification.Failure.EMPTY.name());
+        }
+        if (token.startsWith(JwtUtil.BEARER_PREFIX)) {
+            token = token.substring(JwtUtil.BEARER_PREFIX.length());
+        }
+
+        TokenVerification verification = jwtUtil.verifyToken(token);
+        if (!verification.isValid()) {
+            return TokenIntrospectionResponse.inactive(verification.getFailure().name());
+        }
+
+        Claims claims = verification.getClaims();
+        if (tokenRevocationRegistry.isRevoked(claims.getId())) {
+            return TokenIntrospectionResponse.inactive(REVOKED);
+        }
+
+        return TokenIntrospectionResponse.active(claims.getSubject(),
+                claims.get(JwtUtil.AUTHORIZATION_KEY, String.class),
+                claims.getExpiration().toInstant());
+    }
+
+}
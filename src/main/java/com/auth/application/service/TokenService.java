@@ -0,0 +1,154 @@
+package com.auth.application.service;
+
+import com.auth.common.exception.CustomException;
+import com.auth.common.exception.ErrorCode;
+import com.auth.common.util.HashUtils;
+import com.auth.domain.entity.RefreshToken;
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.repository.RefreshTokenRepository;
+import com.auth.infrastructure.repository.UserCredentials;
+import com.auth.infrastructure.repository.UserRepository;
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.infrastructure.security.TokenRevocationRegistry;
+import com.auth.infrastructure.security.TokenVerification;
+import com.auth.presentation.dto.LoginResponse;
+import com.auth.presentation.dto.RevokeTokenResponse;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenService {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // 리프레시 토큰 만료시간 (기본 14일)
+    @Value("${token.refresh.time:1209600000}")
+    private long refreshTokenTime;
+
+    /**
+     * 로그인 성공 시 액세스 토큰 + 리프레시 토큰 발급
+     *
+     * @param userId   : 사용자 ID
+     * @param username : 사용자명
+     * @param role     : 사용자 권한
+     * @return : 발급된 토큰
+     */
+    @Transactional
+    public LoginResponse issueTokens(Long userId, String username, UserRole role) {
+        String accessToken = jwtUtil.createToken(userId, username, role);
+        String refreshToken = createRefreshToken(userId, UUID.randomUUID().toString());
+        return new LoginResponse(accessToken, refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰으로 토큰 재발급 (비밀번호 해싱 없음)
+     * - 사용한 리프레시 토큰은 즉시 사용 처리되고 새 리프레시 토큰이 발급된다. (rotation)
+     * - 이미 사용된 토큰이 다시 들어오면 탈취로 판단하고 같은 family 의 토큰을 모두 폐기한다.
+     *
+     * @param refreshToken : 리프레시 토큰 원문
+     * @return : 재발급된 토큰
+     */
+    @Transactional(noRollbackFor = CustomException.class)
+    public LoginResponse refresh(String refreshToken) {
+        // 1. 리프레시 토큰 조회
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(HashUtils.sha256(refreshToken))
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        if (stored.getExpiresAt().isBefore(Instant.now())) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 2. 재사용 감지 (사용 처리에 실패하면 이미 다른 요청에서 사용된 토큰)
+        if (stored.isUsed() || refreshTokenRepository.markUsed(stored.getRefreshTokenId()) == 0) {
+            refreshTokenRepository.deleteByFamilyId(stored.getFamilyId());
+            log.warn("Refresh token reuse detected. userId: {}, familyId: {}", stored.getUserId(), stored.getFamilyId());
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 3. 새 토큰 발급 (토큰에 필요한 값만 조회, 엔티티 로딩 없음)
+        UserCredentials user = userRepository.findCredentialsById(stored.getUserId())
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        String accessToken = jwtUtil.createToken(user.getUserId(), user.getUsername(), user.getUserRole());
+        String rotated = createRefreshToken(user.getUserId(), stored.getFamilyId());
+        return new LoginResponse(accessToken, rotated);
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃)
+     * - 액세스 토큰은 jti 로 폐기 목록에 추가하고, 사용자(uid)의 리프레시 토큰은 모두 삭제해
+     *   로그아웃 후 리프레시 토큰으로 새 액세스 토큰을 발급받을 수 없게 한다.
+     *
+     * @param token : 폐기할 JWT (Bearer 접두사 제외)
+     * @return : 폐기된 토큰 정보
+     */
+    @Transactional
+    public RevokeTokenResponse revoke(String token) {
+        // 1. 토큰 검증
+        TokenVerification verification = jwtUtil.verifyToken(token);
+        if (!verification.isValid() || verification.getClaims().getId() == null) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        // 2. 폐기 목록에 추가
+        Claims claims = verification.getClaims();
+        Instant expiresAt = claims.getExpiration().toInstant();
+        tokenRevocationRegistry.revoke(claims.getId(), expiresAt);
+
+        // 3. 리프레시 토큰 폐기 (uid 가 없는 이전 형식의 토큰은 사용자를 특정할 수 없어 생략)
+        Long userId = claims.get(JwtUtil.USER_ID_KEY, Long.class);
+        if (userId != null) {
+            int deleted = refreshTokenRepository.deleteByUserId(userId);
+            log.info("Refresh tokens revoked. userId: {}, deleted: {}", userId, deleted);
+        }
+
+        return RevokeTokenResponse.builder()
+                .jti(claims.getId())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    // 만료된 리프레시 토큰 정리
+    @Scheduled(fixedDelayString = "${token.refresh.prune-interval:3600000}",
+            initialDelayString = "${token.refresh.prune-interval:3600000}")
+    public void pruneExpiredRefreshTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        log.info("Expired refresh tokens pruned. deleted: {}", deleted);
+    }
+
+    // 불투명(opaque) 리프레시 토큰 생성 후 해시만 저장
+    private String createRefreshToken(Long userId, String familyId) {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(HashUtils.sha256(refreshToken))
+                .userId(userId)
+                .familyId(familyId)
+                .expiresAt(Instant.now().plusMillis(refreshTokenTime))
+                .used(false)
+                .build());
+
+        return refreshToken;
+    }
+
+}
@@ -0,0 +1,361 @@
+package com.auth.application.service;
+
+import com.auth.common.exception.CustomException;
+import com.auth.common.exception.ErrorCode;
+import com.auth.common.util.ConstraintViolations;
+import com.auth.domain.entity.User;
+import com.auth.domain.entity.UserRole;
+import com.auth.domain.event.UserChangedEvent;
+import com.auth.infrastructure.repository.UserRepository;
+import com.auth.presentation.dto.UserImportResult;
+import com.auth.presentation.dto.UserImportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자용 사용자 일괄 가져오기 (CSV / NDJSON)
+ * - 요청 본문을 한 줄씩 읽어 chunkSize 행 단위로 처리하고, 결과도 chunk 마다 NDJSON 으로 바로 기록하므로
+ *   파일 크기와 관계없이 메모리에는 chunk 하나만 유지한다.
+ * - chunk 처리 순서 : 입력 검증 -> 중복 사용자명 제외 (chunk 안, DB 조회 1회) -> 비밀번호 병렬 해싱 -> 일괄 INSERT
+ * - 해싱은 hashConcurrency 개의 스레드에서 PasswordHashExecutor 로 보내므로, 가져오기가 해싱 스레드를
+ *   모두 차지하지 않고 로그인/회원가입 해싱과 나눠 쓴다.
+ * - INSERT 는 chunk 마다 한 트랜잭션에서 JDBC batch 로 실행 (hibernate.jdbc.batch_size, JpaConfig)
+ *   사전 확인 이후 같은 사용자명이 가입되어 batch 가 실패하면 해당 chunk 만 행 단위로 다시 저장한다.
+ * - CSV 형식 : username,password,nickname (첫 줄이 헤더이면 건너뜀, 큰따옴표로 감싼 값 지원)
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final String CSV_HEADER = "username,password,nickname";
+    private static final int CSV_FIELDS = 3;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader rowReader;
+    private final ObjectWriter resultWriter;
+    private final ExecutorService hashExecutor;
+
+    // 한 트랜잭션에서 처리하는 행 수
+    private final int chunkSize;
+
+    public UserImportService(UserRepository userRepository,
+                             PasswordEncoder passwordEncoder,
+                             EntityManager entityManager,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper,
+                             @Value("${user.import.chunk-size:1000}") int chunkSize,
+                             @Value("${user.import.hash-concurrency:0}") int hashConcurrency) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.rowReader = objectMapper.readerFor(UserImportRow.class);
+        this.resultWriter = objectMapper.writerFor(UserImportResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // chunk 단위로만 flush
+        this.chunkSize = chunkSize;
+        // 0 이하이면 CPU 코어 수의 절반 (나머지 해싱 스레드는 로그인/회원가입용으로 남김)
+        int threads = hashConcurrency > 0 ? hashConcurrency : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashExecutor = Executors.newFixedThreadPool(threads, new ImportThreadFactory());
+    }
+
+    /**
+     * 사용자 일괄 가져오기
+     *
+     * @param inputStream  : CSV 또는 NDJSON 요청 본문 (UTF-8)
+     * @param contentType  : 요청 본문 형식 (text/csv, application/x-ndjson)
+     * @param outputStream : 행별 결과를 NDJSON 으로 기록할 응답 스트림
+     */
+    public void importUsers(InputStream inputStream, MediaType contentType, OutputStream outputStream) throws IOException {
+        boolean csv = !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        long total = 0;
+        long created = 0;
+
+        try (JsonGenerator generator = resultWriter.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            // 값 사이 구분자 대신 행마다 줄바꿈을 직접 기록
+            generator.setRootValueSeparator(null);
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!StringUtils.hasText(line) || (csv && lineNumber == 1 && CSV_HEADER.equalsIgnoreCase(line.strip()))) {
+                    continue;
+                }
+                chunk.add(csv ? parseCsv(lineNumber, line) : parseJson(lineNumber, line));
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk);
+                    created += writeResults(generator, chunk);
+                    total += chunk.size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk);
+                created += writeResults(generator, chunk);
+                total += chunk.size();
+            }
+        }
+
+        log.info("User import finished. rows: {}, created: {}", total, created);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdown();
+    }
+
+    // chunk 단위 처리 : 검증 -> 중복 제외 -> 해싱 -> 저장
+    private void importChunk(List<ImportRow> rows) {
+        // 1. chunk 안에서 중복된 사용자명 제외
+        Set<String> usernames = new HashSet<>();
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.error != null) {
+                continue;
+            }
+            if (!usernames.add(row.username)) {
+                row.fail(ErrorCode.USER_ALREADY_EXISTS);
+                continue;
+            }
+            candidates.add(row);
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 2. 이미 가입된 사용자명 제외 (chunk 당 조회 1회)
+        Set<String> existing = new HashSet<>(userRepository.findExistingUsernames(usernames));
+        if (!existing.isEmpty()) {
+            candidates.removeIf(row -> {
+                if (existing.contains(row.username)) {
+                    row.fail(ErrorCode.USER_ALREADY_EXISTS);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        // 3. 비밀번호 병렬 해싱
+        hashPasswords(candidates);
+        candidates.removeIf(row -> row.error != null);
+
+        // 4. 저장
+        if (!candidates.isEmpty()) {
+            insert(candidates);
+        }
+    }
+
+    private void hashPasswords(List<ImportRow> rows) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String password = row.password;
+            futures.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(password), hashExecutor));
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            try {
+                row.encodedPassword = futures.get(i).join();
+            } catch (CompletionException exception) {
+                // 해싱 대기열 초과(SERVER_BUSY) 등은 해당 행만 실패 처리
+                if (exception.getCause() instanceof CustomException customException) {
+                    row.fail(customException.getErrorCode());
+                } else {
+                    throw exception;
+                }
+            } finally {
+                row.password = null;
+            }
+        }
+    }
+
+    // chunk 전체를 한 트랜잭션에서 JDBC batch 로 저장
+    private void insert(List<ImportRow> rows) {
+        List<User> users = rows.stream().map(ImportRow::toUser).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                userRepository.flush();
+                users.forEach(user -> eventPublisher.publishEvent(new UserChangedEvent(user.getUsername())));
+                // 저장한 엔티티를 영속성 컨텍스트에 남기지 않음
+                entityManager.clear();
+            });
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).userId = users.get(i).getUserId();
+            }
+        } catch (DataIntegrityViolationException exception) {
+            // 사전 확인 이후 다른 요청이 같은 사용자명으로 가입한 경우 : 이 chunk 만 행 단위로 다시 저장
+            log.warn("User import batch failed, retrying row by row. rows: {}", rows.size());
+            rows.forEach(this::insertOne);
+        }
+    }
+
+    private void insertOne(ImportRow row) {
+        try {
+            User savedUser = transactionTemplate.execute(status -> {
+                User user = userRepository.saveAndFlush(row.toUser());
+                eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+                return user;
+            });
+            row.userId = savedUser.getUserId();
+        } catch (DataIntegrityViolationException exception) {
+            row.fail(ConstraintViolations.isViolationOf(exception, User.USERNAME_UNIQUE_CONSTRAINT)
+                    ? ErrorCode.USER_ALREADY_EXISTS : ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    // 행별 결과를 한 줄씩 기록하고 chunk 단위로 flush, 생성된 행 수 반환
+    private long writeResults(JsonGenerator generator, List<ImportRow> rows) throws IOException {
+        long created = 0;
+        for (ImportRow row : rows) {
+            UserImportResult result = row.error == null
+                    ? UserImportResult.created(row.line, row.username, row.userId)
+                    : UserImportResult.failed(row.line, row.username, row.error);
+            if (result.isCreated()) {
+                created++;
+            }
+            resultWriter.writeValue(generator, result);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        return created;
+    }
+
+    private ImportRow parseJson(long line, String json) {
+        try {
+            return new ImportRow(line, rowReader.readValue(json));
+        } catch (JsonProcessingException exception) {
+            return ImportRow.invalid(line);
+        }
+    }
+
+    // RFC 4180 의 한 줄짜리 레코드 (큰따옴표 안의 쉼표, "" 이스케이프 지원)
+    private ImportRow parseCsv(long line, String csv) {
+        List<String> fields = new ArrayList<>(CSV_FIELDS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        if (quoted || fields.size() != CSV_FIELDS) {
+            return ImportRow.invalid(line);
+        }
+        return new ImportRow(line, new UserImportRow(fields.get(0).strip(), fields.get(1), fields.get(2).strip()));
+    }
+
+    // 처리 중인 한 행 (원본 줄 번호, 입력 값, 처리 결과)
+    private static final class ImportRow {
+
+        private final long line;
+        private final String username;
+        private final String nickname;
+        private String password;
+        private String encodedPassword;
+        private Long userId;
+        private String error;
+
+        private ImportRow(long line, UserImportRow row) {
+            this.line = line;
+            this.username = row.getUsername();
+            this.nickname = row.getNickname();
+            this.password = row.getPassword();
+            if (!StringUtils.hasText(username) || !StringUtils.hasText(password) || !StringUtils.hasText(nickname)) {
+                fail(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+
+        private static ImportRow invalid(long line) {
+            return new ImportRow(line, new UserImportRow());
+        }
+
+        private void fail(ErrorCode errorCode) {
+            this.error = errorCode.getCode();
+        }
+
+        // 저장할 때마다 새 엔티티 생성 (batch 실패 후 재시도 시 ID 가 할당된 엔티티를 재사용하지 않음)
+        private User toUser() {
+            return User.builder()
+                    .username(username)
+                    .nickname(nickname)
+                    .password(encodedPassword)
+                    .userRole(UserRole.USER)
+                    .build();
+        }
+
+    }
+
+    private static class ImportThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "user-import-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.auth.common.advice;
+
+import com.auth.common.dto.ErrorResponse;
+import com.auth.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode 별 ErrorResponse 를 시작 시 한 번만 직렬화해 두고, 응답에 byte 배열을 그대로 기록
+ */
+@Component
+public class ErrorResponseWriter {
+
+    public static final MediaType CONTENT_TYPE = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            bodies.put(errorCode, objectMapper.writeValueAsBytes(new ErrorResponse(errorCode)));
+        }
+    }
+
+    /**
+     * 직렬화된 에러 응답 바디 조회
+     *
+     * @param errorCode : 에러 코드
+     * @return : UTF-8 JSON byte 배열 (수정 금지)
+     */
+    public byte[] getBody(ErrorCode errorCode) {
+        return bodies.get(errorCode);
+    }
+
+    /**
+     * 필터 등에서 에러 응답 전송
+     *
+     * @param response  : 응답
+     * @param errorCode : 에러 코드
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = bodies.get(errorCode);
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(CONTENT_TYPE.toString());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+}
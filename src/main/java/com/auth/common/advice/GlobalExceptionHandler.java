@@ -1,17 +1,19 @@
 package com.auth.common.advice;
 
-import com.auth.common.dto.ErrorResponse;
 import com.auth.common.exception.CustomException;
 import com.auth.common.exception.ErrorCode;
-import org.springframework.http.HttpStatus;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     /**
      * Custom 예외 처리 Handler
      *
@@ -19,10 +21,8 @@ public class GlobalExceptionHandler {
      * @return : 상태값과 메시지 반환
      */
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<ErrorResponse> handleCustomException(CustomException exception) {
-        ErrorCode errorCode = exception.getErrorCode();
-        ErrorResponse errorResponse = new ErrorResponse(errorCode);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    public ResponseEntity<byte[]> handleCustomException(CustomException exception) {
+        return toResponse(exception.getErrorCode());
     }
 
     /**
@@ -32,10 +32,17 @@ public class GlobalExceptionHandler {
      * @return : 상태값과 메시지 반환
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException exception) {
-        ErrorResponse errorResponse = new ErrorResponse(ErrorCode.INVALID_INPUT_VALUE);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    public ResponseEntity<byte[]> handleValidationException(MethodArgumentNotValidException exception) {
+        return toResponse(ErrorCode.INVALID_INPUT_VALUE);
     }
 
+    // 미리 직렬화된 에러 응답 바디 반환
+    private ResponseEntity<byte[]> toResponse(ErrorCode errorCode) {
+        byte[] body = errorResponseWriter.getBody(errorCode);
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(ErrorResponseWriter.CONTENT_TYPE)
+                .contentLength(body.length)
+                .body(body);
+    }
 
 }
@@ -1,6 +1,7 @@
 package com.auth.common.exception;
 
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 
 @Getter
 public enum ErrorCode {
@@ -8,18 +9,28 @@ public enum ErrorCode {
     USER_ALREADY_EXISTS("USER_ALREADY_EXISTS", "이미 가입된 사용자입니다."),
     USER_NOT_FOUND("USER_NOT_FOUND", "사용자를 찾을 수 없습니다."),
     INVALID_CREDENTIALS("INVALID_CREDENTIALS", "아이디 또는 비밀번호가 올바르지 않습니다."),
+    ACCOUNT_LOCKED("ACCOUNT_LOCKED", "로그인 실패 횟수 초과로 계정이 잠겼습니다. 잠시 후 다시 시도해주세요."),
     ACCESS_DENIED("ACCESS_DENIED", "관리자 권한이 필요한 요청입니다. 접근 권한이 없습니다."),
     INVALID_INPUT_VALUE("INVALID_INPUT_VALUE", "입력이 올바르지 않습니다."),
     INVALID_ADMIN_KEY("INVALID_ADMIN_KEY", "관리자 암호가 올바르지 않습니다."),
-    INVALID_TOKEN("INVALID_TOKEN", "유효하지 않은 인증 토큰입니다.")
+    INVALID_TOKEN("INVALID_TOKEN", "유효하지 않은 인증 토큰입니다."),
+    INVALID_REFRESH_TOKEN("INVALID_REFRESH_TOKEN", "유효하지 않은 리프레시 토큰입니다."),
+    SERVER_BUSY("SERVER_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    TOO_MANY_REQUESTS("TOO_MANY_REQUESTS", "요청 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS)
     ;
 
     private final String code;
     private final String message;
+    private final HttpStatus status;
 
     ErrorCode(String code, String message) {
+        this(code, message, HttpStatus.BAD_REQUEST);
+    }
+
+    ErrorCode(String code, String message, HttpStatus status) {
         this.code = code;
         this.message = message;
+        this.status = status;
     }
 
 }
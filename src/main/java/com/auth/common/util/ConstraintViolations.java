@@ -0,0 +1,31 @@
+package com.auth.common.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * DB 제약조건 위반 예외 판별 유틸
+ */
+public final class ConstraintViolations {
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * 특정 제약조건 위반인지 판별
+     * - DB 에 따라 제약조건/인덱스 이름이 대문자나 접두어가 붙은 형태로 오므로 포함 여부로 비교
+     *
+     * @param exception      : 무결성 제약조건 위반 예외
+     * @param constraintName : 제약조건 이름 (소문자)
+     * @return : 해당 제약조건 위반 여부
+     */
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        String violated = exception.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName() : null;
+        String source = violated != null ? violated : exception.getMostSpecificCause().getMessage();
+        return source != null && source.toLowerCase(Locale.ROOT).contains(constraintName);
+    }
+
+}
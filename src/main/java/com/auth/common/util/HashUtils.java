@@ -0,0 +1,28 @@
+package com.auth.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public final class HashUtils {
+
+    private HashUtils() {
+    }
+
+    /**
+     * SHA-256 해시 (Base64 URL, padding 없음)
+     *
+     * @param value : 원본 문자열
+     * @return : 해시 문자열 (43자)
+     */
+    public static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+}
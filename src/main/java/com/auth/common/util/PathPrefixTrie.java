@@ -0,0 +1,88 @@
+package com.auth.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 경로 패턴 매칭용 문자 단위 trie
+ * - "/login" 처럼 정확히 일치해야 하는 경로와 "/swagger-ui/**" 처럼 하위 경로 전체를 포함하는 패턴만 지원
+ * - 조회는 경로 길이만큼 한 번 순회하며 객체를 생성하지 않는다.
+ * - 생성 후에는 읽기만 하므로 thread-safe (add 는 초기화 시에만 호출)
+ */
+public class PathPrefixTrie {
+
+    private static final String WILDCARD_SUFFIX = "/**";
+
+    private final Node root = new Node();
+
+    /**
+     * 패턴 추가
+     *
+     * @param pattern : "/a/b" (정확히 일치) 또는 "/a/**" ("/a" 와 "/a/" 하위 전체)
+     */
+    public void add(String pattern) {
+        boolean wildcard = pattern.endsWith(WILDCARD_SUFFIX);
+        String path = wildcard ? pattern.substring(0, pattern.length() - WILDCARD_SUFFIX.length()) : pattern;
+
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.childOrCreate(path.charAt(i));
+        }
+        if (wildcard) {
+            node.subtree = true;
+        } else {
+            node.exact = true;
+        }
+    }
+
+    /**
+     * 경로가 등록된 패턴 중 하나와 일치하는지 확인
+     *
+     * @param path : 요청 경로 (context path 제외)
+     * @return : 일치 여부
+     */
+    public boolean matches(String path) {
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            // "/a/**" 는 "/a/" 로 시작하는 모든 경로와 일치
+            if (node.subtree && path.charAt(i) == '/') {
+                return true;
+            }
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.exact || node.subtree;
+    }
+
+    private static final class Node {
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean exact;
+        private boolean subtree;
+
+        private Node child(char c) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = c;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+    }
+
+}
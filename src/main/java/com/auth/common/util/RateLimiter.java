@@ -0,0 +1,66 @@
+package com.auth.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(IP, 사용자명 등)별 요청 수 제한 (GCRA, Generic Cell Rate Algorithm)
+ * - token bucket 과 동일하게 동작하지만 키마다 "다음 요청 허용 시각(TAT)" long 하나만 유지
+ * - TAT 는 AtomicLong 의 CAS 로 갱신하므로 lock 이 없고, 키가 다르면 경합도 없다.
+ * - 버킷이 가득 찰 만큼(burst * 간격) 요청이 없던 키는 제거해도 결과가 같으므로
+ *   expireAfterAccess 로 제거하고, maximumSize 로 전체 메모리를 제한한다.
+ */
+public class RateLimiter {
+
+    // 요청 1개당 간격 (ns)
+    private final long emissionInterval;
+
+    // 한 번에 허용하는 초과량 ((burst - 1) * 간격)
+    private final long burstTolerance;
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(double permitsPerSecond, int burst, long maximumSize) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1");
+        }
+        this.emissionInterval = (long) (Duration.ofSeconds(1).toNanos() / permitsPerSecond);
+        this.burstTolerance = emissionInterval * (burst - 1);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofNanos(emissionInterval * burst))
+                .build();
+    }
+
+    /**
+     * 요청 허용 여부 확인 (허용되면 1개 소비)
+     *
+     * @param key : 제한 단위 키
+     * @return : 허용되면 0, 거절되면 다음 요청이 허용될 때까지 남은 시간(ns)
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = tat.get();
+            long base = Math.max(current, now);
+            long waitTime = base - now - burstTolerance;
+            if (waitTime > 0) {
+                return waitTime;
+            }
+            if (tat.compareAndSet(current, base + emissionInterval)) {
+                return 0;
+            }
+        }
+    }
+
+    // 현재 유지 중인 키 수 (추정치)
+    public long estimatedSize() {
+        return buckets.estimatedSize();
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.auth.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // allocationSize > 1 인 시퀀스는 pooled-lo 로 할당 (시퀀스 값이 블록의 첫 ID)
+    // spring.jpa.properties.hibernate.id.optimizer.pooled.preferred 로 지정한 값이 있으면 그 값을 사용
+    @Bean
+    public HibernatePropertiesCustomizer idOptimizerCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+    }
+
+    // 여러 행 저장(사용자 일괄 가져오기 등)을 batchSize 개씩 JDBC batch 로 전송
+    // 같은 테이블 INSERT 를 모아서 보내도록 정렬 (ID 는 pooled 시퀀스라 INSERT 전에 할당되어 batch 가능)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${auth.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+        };
+    }
+
+}
@@ -26,7 +26,7 @@ public class OpenApiConfig {
     public GroupedOpenApi userApi() {
         return GroupedOpenApi.builder()
                 .group("사용자 API")
-                .pathsToMatch("/login", "/signup", "/admin/signup", "/admin/users/**")
+                .pathsToMatch("/login", "/signup", "/admin/signup", "/admin/users/**", "/token/**", "/.well-known/**")
                 // API 관련 인터페이스가 있는 패키지 명시
                 .packagesToScan("com.auth.presentation")
                 .build();
@@ -45,6 +45,7 @@ public class OpenApiConfig {
                         .addSchemas("LoginSuccessResponse", new Schema<>()
                                 .type("object")
                                 .addProperty("token", new Schema<>().type("string").example("Bearer eKDIkdfjoakIdkfjpekdkcjdkoIOdjOKJDFOlLDKFJKL"))
+                                .addProperty("refreshToken", new Schema<>().type("string").example("q3k9Z0d8l1xv2mA7cQ4yR6tB5nE0sW8uJ1hG2fK3pL4"))
                         )
                         .addSchemas("ErrorDetails", new Schema<>()
                                 .type("object")
@@ -1,16 +1,58 @@
 package com.auth.config;
 
+import com.auth.infrastructure.security.BcryptCostCalibrator;
+import com.auth.infrastructure.security.BoundedPasswordEncoder;
+import com.auth.infrastructure.security.PasswordHashExecutor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.LdapShaPasswordEncoder;
+import org.springframework.security.crypto.password.Md4PasswordEncoder;
+import org.springframework.security.crypto.password.MessageDigestPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.StandardPasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 public class PasswordEncoderConfig {
 
+    private static final String BCRYPT = "bcrypt";
+
+    // 해싱은 요청 스레드가 아닌 제한된 크기의 전용 executor 에서 실행
+    // bcrypt strength 는 시작 시 현재 CPU 기준으로 보정되며, 더 낮은 strength 로 저장된 비밀번호는 로그인 시 재해싱된다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashExecutor passwordHashExecutor, BcryptCostCalibrator bcryptCostCalibrator) {
+        int strength = bcryptCostCalibrator.calibrate();
+        PasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT, encoders(new BCryptPasswordEncoder(strength)));
+        return new BoundedPasswordEncoder(delegating, passwordHashExecutor);
+    }
+
+    // PasswordEncoderFactories 와 같은 id 목록 ({noop}, {pbkdf2} 등으로 저장된 기존 비밀번호도 검증), bcrypt 만 보정된 encoder 로 교체
+    @SuppressWarnings("deprecation")
+    private static Map<String, PasswordEncoder> encoders(PasswordEncoder bcrypt) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put("ldap", new LdapShaPasswordEncoder());
+        encoders.put("MD4", new Md4PasswordEncoder());
+        encoders.put("MD5", new MessageDigestPasswordEncoder("MD5"));
+        encoders.put("noop", NoOpPasswordEncoder.getInstance());
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_5());
+        encoders.put("pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("scrypt", SCryptPasswordEncoder.defaultsForSpringSecurity_v4_1());
+        encoders.put("scrypt@SpringSecurity_v5_8", SCryptPasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("SHA-1", new MessageDigestPasswordEncoder("SHA-1"));
+        encoders.put("SHA-256", new MessageDigestPasswordEncoder("SHA-256"));
+        encoders.put("sha256", new StandardPasswordEncoder());
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_2());
+        encoders.put("argon2@SpringSecurity_v5_8", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        return encoders;
     }
 
 }
@@ -1,10 +1,22 @@
 package com.auth.config;
 
+import com.auth.application.aop.AdminRouteTable;
+import com.auth.application.service.TokenService;
+import com.auth.common.advice.ErrorResponseWriter;
+import com.auth.domain.entity.UserRole;
 import com.auth.infrastructure.security.JwtUtil;
+import com.auth.infrastructure.security.LoginFailureTracker;
+import com.auth.infrastructure.security.LoginRateLimiter;
+import com.auth.infrastructure.security.PublicRoutes;
+import com.auth.infrastructure.security.TokenRevocationRegistry;
 import com.auth.infrastructure.security.UserDetailsServiceImpl;
+import com.auth.infrastructure.security.filter.AdminRouteFilter;
 import com.auth.infrastructure.security.filter.JwtAuthenticationFilter;
 import com.auth.infrastructure.security.filter.JwtAuthorizationFilter;
+import com.auth.infrastructure.security.filter.LoginRateLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,6 +27,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -24,7 +37,22 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final TokenService tokenService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final LoginRateLimiter loginRateLimiter;
+    private final LoginFailureTracker loginFailureTracker;
+    private final AdminRouteTable adminRouteTable;
+
+    // true 이면 요청마다 DB 조회 없이 JWT claims 로 principal 생성
+    @Value("${security.principal.stateless:false}")
+    private boolean statelessPrincipal;
+
+    // @ValidateAdmin 확인 방식 (filter : AdminRouteFilter, aspect : ValidateAdminAspect)
+    @Value("${security.admin-check.mode:filter}")
+    private String adminCheckMode;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -33,14 +61,19 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenService, objectMapper, errorResponseWriter, loginRateLimiter, loginFailureTracker);
         filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
         return filter;
     }
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, tokenRevocationRegistry, errorResponseWriter, statelessPrincipal);
+    }
+
+    @Bean
+    public LoginRateLimitFilter loginRateLimitFilter() {
+        return new LoginRateLimitFilter(loginRateLimiter, errorResponseWriter);
     }
 
     @Bean
@@ -55,19 +88,19 @@ public class SecurityConfig {
         // 요청 필터링
         http
                 .authorizeHttpRequests((auth) -> auth
-                        .requestMatchers("/signup", "/admin/signup", "/login").permitAll()
-                        .requestMatchers(
-                                "/v3/api-docs/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/webjars/**",
-                                "/swagger-resources/**").permitAll()
+                        .requestMatchers(PublicRoutes.PATTERNS).permitAll() // 회원가입, 로그인, JWKS, Swagger
+                        .requestMatchers("/actuator/**").hasAuthority(UserRole.ADMIN.name()) // 운영 정보 (adminroutes 등)
                         .anyRequest().authenticated() // 모든 경로 JWT 인증 필요
                 );
 
         // 필터 관리
+        http.addFilterBefore(loginRateLimitFilter(), JwtAuthenticationFilter.class);
         http.addFilterBefore(jwtAuthorizationFilter(), JwtAuthenticationFilter.class);
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        if ("filter".equals(adminCheckMode)) {
+            // 인증 여부 확인(AuthorizationFilter) 후, controller dispatch 전에 권한 확인
+            http.addFilterAfter(new AdminRouteFilter(adminRouteTable, errorResponseWriter), AuthorizationFilter.class);
+        }
 
         return http.build();
     }
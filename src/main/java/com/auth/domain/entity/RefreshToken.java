@@ -0,0 +1,41 @@
+package com.auth.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "refresh_tokens", indexes = @Index(name = "idx_refresh_tokens_family_id", columnList = "familyId"))
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private Long refreshTokenId;
+
+    // 토큰 원문의 SHA-256 해시 (원문은 저장하지 않음)
+    @Column(nullable = false, unique = true)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    // 최초 로그인 시 발급된 토큰부터 회전된 토큰까지 같은 값을 가진다. (재사용 감지 시 전체 폐기)
+    @Column(nullable = false)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    // 회전(재발급)에 이미 사용된 토큰 여부
+    @Column(nullable = false)
+    private boolean used;
+
+}
@@ -0,0 +1,27 @@
+package com.auth.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expiresAt"))
+public class RevokedToken {
+
+    // 토큰 식별자 (jti)
+    @Id
+    private String jti;
+
+    // 토큰 만료 시각 (이후에는 폐기 목록에서 제거)
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+}
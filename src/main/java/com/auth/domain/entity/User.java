@@ -6,19 +6,31 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Entity
 @Builder
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"))
 public class User {
 
+    // username 중복 가입을 막는 unique 제약조건 이름
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_users_username";
+
+    // 시퀀스 한 번 호출로 할당하는 ID 수 (시퀀스의 INCREMENT BY 와 같음)
+    // 배포 환경별로 바꾸려면 orm.xml 의 <sequence-generator name="users_id_generator" allocation-size="..."/> 로 재정의하고
+    // spring.jpa.mapping-resources 에 등록 (예: src/jmh/resources/META-INF/users-id-per-row.xml)
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    // pooled-lo 시퀀스로 ID 를 블록 단위로 할당 (optimizer 는 JpaConfig 의 hibernate.id.optimizer.pooled.preferred)
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_generator")
+    @SequenceGenerator(name = "users_id_generator", sequenceName = "users_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long userId;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
@@ -30,7 +42,6 @@ public class User {
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
 
-    public void updateUserRole(UserRole userRole) {
-        this.userRole = userRole;
-    }
+    // 로그인 실패 누적으로 잠긴 경우 잠금 해제 시각
+    private Instant lockedUntil;
 }
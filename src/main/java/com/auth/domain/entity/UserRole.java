@@ -1,8 +1,44 @@
 package com.auth.domain.entity;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public enum UserRole {
 
     USER,    // 사용자
     ADMIN;   // 관리자
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    // 권한 문자열 -> UserRole ("ADMIN", "ROLE_ADMIN" 모두 허용)
+    private static final Map<String, UserRole> BY_AUTHORITY = new HashMap<>();
+
+    static {
+        for (UserRole role : values()) {
+            BY_AUTHORITY.put(role.name(), role);
+            BY_AUTHORITY.put(ROLE_PREFIX + role.name(), role);
+        }
+    }
+
+    // 인증 객체에 사용하는 권한 목록 (불변, 모든 사용자가 공유)
+    private final List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(name()));
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * 권한 문자열로 UserRole 조회
+     *
+     * @param authority : 권한 문자열 (예: ADMIN, ROLE_ADMIN)
+     * @return : 해당 UserRole, 없으면 null
+     */
+    public static UserRole fromAuthority(String authority) {
+        return BY_AUTHORITY.get(authority);
+    }
+
 }
@@ -0,0 +1,19 @@
+package com.auth.domain.event;
+
+/**
+ * 사용자 정보(가입, 권한, 비밀번호 등)가 변경되었을 때 발행되는 이벤트
+ * - 사용자 정보를 캐시하는 컴포넌트는 이 이벤트로 캐시를 무효화한다.
+ */
+public class UserChangedEvent {
+
+    private final String username;
+
+    public UserChangedEvent(String username) {
+        this.username = username;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.auth.infrastructure.repository;
+
+import com.auth.domain.entity.UserRole;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 인증/토큰 발급용 projection (nickname 제외)
+// 로그인마다 조회되므로 interface projection(proxy) 대신 JPQL 생성자 표현식으로 바로 생성
+@Getter
+public class UserCredentials {
+
+    private final Long userId;
+    private final String username;
+    private final String password;
+    private final UserRole userRole;
+    private final Instant lockedUntil;
+
+    public UserCredentials(Long userId, String username, String password, UserRole userRole, Instant lockedUntil) {
+        this.userId = userId;
+        this.username = username;
+        this.password = password;
+        this.userRole = userRole;
+        this.lockedUntil = lockedUntil;
+    }
+
+}
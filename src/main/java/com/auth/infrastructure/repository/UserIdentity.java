@@ -0,0 +1,10 @@
+package com.auth.infrastructure.repository;
+
+// 사용자 ID 와 사용자명만 조회하는 projection (엔티티를 로딩하지 않음)
+public interface UserIdentity {
+
+    Long getUserId();
+
+    String getUsername();
+
+}
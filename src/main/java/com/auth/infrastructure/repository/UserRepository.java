@@ -1,14 +1,68 @@
 package com.auth.infrastructure.repository;
 
 import com.auth.domain.entity.User;
+import com.auth.domain.entity.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    boolean existsByUsername(String username);
-
     Optional<User> findByUsername(String username);
 
+    // 인증용 조회 : 필요한 컬럼만 DTO 로 조회 (엔티티를 영속성 컨텍스트에 올리지 않아 dirty checking, flush 대상이 아님)
+    @Transactional(readOnly = true)
+    @Query("select new com.auth.infrastructure.repository.UserCredentials(u.userId, u.username, u.password, u.userRole, u.lockedUntil) "
+            + "from User u where u.username = :username")
+    Optional<UserCredentials> findCredentialsByUsername(@Param("username") String username);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.auth.infrastructure.repository.UserCredentials(u.userId, u.username, u.password, u.userRole, u.lockedUntil) "
+            + "from User u where u.userId = :userId")
+    Optional<UserCredentials> findCredentialsById(@Param("userId") Long userId);
+
+    @Transactional(readOnly = true)
+    @Query("select u.userId as userId, u.username as username, u.nickname as nickname from User u where u.userId = :userId")
+    Optional<UserSummary> findSummaryById(@Param("userId") Long userId);
+
+    @Query("select u.username from User u")
+    Stream<String> streamAllUsernames();
+
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select u.userId as userId, u.username as username from User u "
+            + "where u.userId in :userIds and u.userRole <> :userRole")
+    List<UserIdentity> findRoleChangeTargets(@Param("userIds") Collection<Long> userIds, @Param("userRole") UserRole userRole);
+
+    // 사용자 ID 기준 keyset 페이지 (afterUserId 다음부터 pageable 크기만큼)
+    @Query("select u.userId as userId, u.username as username from User u "
+            + "where u.username like :pattern escape '\\' and u.userRole <> :userRole and u.userId > :afterUserId "
+            + "order by u.userId")
+    List<UserIdentity> findRoleChangeTargetsByUsername(@Param("pattern") String pattern, @Param("userRole") UserRole userRole,
+                                                       @Param("afterUserId") long afterUserId, Pageable pageable);
+
+    // 같은 트랜잭션의 이후 조회가 변경 전 엔티티를 보지 않도록 영속성 컨텍스트를 비움
+    // 이미 같은 권한인 사용자는 제외하므로 반환값은 실제로 권한이 바뀐 행 수
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.userRole = :userRole where u.userId in :userIds and u.userRole <> :userRole")
+    int updateUserRole(@Param("userIds") Collection<Long> userIds, @Param("userRole") UserRole userRole);
+
+    @Modifying
+    @Query("update User u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+
+    @Modifying
+    @Query("update User u set u.lockedUntil = :lockedUntil where u.username = :username")
+    int updateLockedUntil(@Param("username") String username, @Param("lockedUntil") Instant lockedUntil);
+
 }
@@ -0,0 +1,12 @@
+package com.auth.infrastructure.repository;
+
+// 사용자 정보 응답용 projection (비밀번호, 잠금 정보 제외)
+public interface UserSummary {
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getNickname();
+
+}
@@ -0,0 +1,84 @@
+package com.auth.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 현재 CPU 에서 bcrypt 해싱 시간을 측정해 목표 지연시간에 맞는 strength(work factor)를 선택
+ * - 목표 지연시간을 넘지 않는 가장 큰 strength 를 선택 (최소/최대 strength 범위 내)
+ * - 비활성화 시 password.hash.strength 값을 그대로 사용
+ */
+@Slf4j
+@Component
+public class BcryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+    private static final int SAMPLES = 3;
+
+    private final boolean enabled;
+    private final Duration targetLatency;
+    private final int minStrength;
+    private final int maxStrength;
+    private final int defaultStrength;
+
+    public BcryptCostCalibrator(@Value("${password.hash.calibration.enabled:true}") boolean enabled,
+                                @Value("${password.hash.target-latency:250ms}") Duration targetLatency,
+                                @Value("${password.hash.min-strength:10}") int minStrength,
+                                @Value("${password.hash.max-strength:16}") int maxStrength,
+                                @Value("${password.hash.strength:10}") int defaultStrength) {
+        this.enabled = enabled;
+        this.targetLatency = targetLatency;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+        this.defaultStrength = defaultStrength;
+    }
+
+    /**
+     * bcrypt strength 결정
+     *
+     * @return : 사용할 strength
+     */
+    public int calibrate() {
+        if (!enabled) {
+            return defaultStrength;
+        }
+
+        int selected = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsedNanos = measure(strength);
+            log.info("bcrypt strength: {}, elapsed: {}ms", strength, elapsedNanos / 1_000_000);
+
+            if (elapsedNanos > targetLatency.toNanos()) {
+                break;
+            }
+            selected = strength;
+
+            // strength 가 1 증가하면 해싱 시간이 약 2배가 되므로, 다음 단계가 목표를 넘으면 측정 생략
+            if (elapsedNanos * 2 > targetLatency.toNanos()) {
+                break;
+            }
+        }
+
+        log.info("bcrypt strength calibrated: {} (target: {}ms)", selected, targetLatency.toMillis());
+        return selected;
+    }
+
+    // 가장 빠른 측정값 사용 (JIT, GC 영향 최소화)
+    private long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+}
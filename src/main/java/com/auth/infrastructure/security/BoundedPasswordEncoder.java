@@ -0,0 +1,34 @@
+package com.auth.infrastructure.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해싱(encode)과 비교(matches)를 PasswordHashExecutor 에서 실행하는 PasswordEncoder
+ * - 회원가입(AuthService)과 로그인(AuthenticationManager) 모두 이 encoder 를 거친다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashExecutor passwordHashExecutor) {
+        this.delegate = delegate;
+        this.passwordHashExecutor = passwordHashExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+}
@@ -3,21 +3,26 @@ package com.auth.infrastructure.security;
 import com.auth.common.exception.CustomException;
 import com.auth.common.exception.ErrorCode;
 import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.security.key.SigningKey;
+import com.auth.infrastructure.security.key.SigningKeyRing;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     // Header KEY
@@ -26,6 +31,9 @@ public class JwtUtil {
     // 사용자 권한 값의 KEY
     public static final String AUTHORIZATION_KEY = "auth";
 
+    // 사용자 ID 값의 KEY
+    public static final String USER_ID_KEY = "uid";
+
     // Token 식별자
     public static final String BEARER_PREFIX = "Bearer ";
 
@@ -33,31 +41,50 @@ public class JwtUtil {
     @Value("${token.time}")
     private long TOKEN_TIME;
 
-    // Secret Key
-    @Value("${jwt.secret.key}")
-    private String secretKey;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 서명 키 (활성 키 + 은퇴 중인 키)
+    private final SigningKeyRing signingKeyRing;
 
-    private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        // parser는 thread-safe 하므로 한 번만 생성해서 재사용
+        // 검증 키는 토큰 헤더의 kid 로 키 링에서 찾는다. (키 교체 후에도 parser 재생성 불필요)
+        jwtParser = Jwts.parser().keyLocator(new LocatorAdapter<Key>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                Key key = signingKeyRing.findVerificationKey(header.getKeyId());
+                if (key == null) {
+                    throw new InvalidKeyException("Unknown signing key id: " + header.getKeyId());
+                }
+                return key;
+            }
+        }).build();
     }
 
     // 토큰 생성
     public String createToken(String username, UserRole role) {
-        Date date = new Date();
+        return createToken(null, username, role);
+    }
 
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(username)                                 // 사용자 식별자값(ID)
-                        .claim(AUTHORIZATION_KEY, role)                       // 사용자 권한
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME)) // 만료 시간
-                        .setIssuedAt(date)                                    // 발급일
-                        .signWith(key, signatureAlgorithm)                    // 암호화 알고리즘
-                        .compact();
+    // 토큰 생성 (사용자 ID 포함)
+    public String createToken(Long userId, String username, UserRole role) {
+        Date date = new Date();
+        SigningKey signingKey = signingKeyRing.getActiveKey();
+
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(signingKey.getKid()).and()    // 서명 키 식별자 (kid)
+                .setId(UUID.randomUUID().toString())          // 토큰 식별자 (jti, 폐기 시 사용)
+                .setSubject(username)                         // 사용자 식별자값(ID)
+                .claim(AUTHORIZATION_KEY, role)               // 사용자 권한
+                .claim(USER_ID_KEY, userId)                   // 사용자 ID
+                .setExpiration(new Date(date.getTime() + TOKEN_TIME)) // 만료 시간
+                .setIssuedAt(date);                           // 발급일
+
+        // 암호화 알고리즘 (jwt.signing.algorithm)
+        return BEARER_PREFIX + signingKey.getAlgorithm().sign(builder, signingKey.getSigningKey()).compact();
     }
 
     // header 에서 JWT 가져오기
@@ -69,19 +96,46 @@ public class JwtUtil {
         return null;
     }
 
-    // JWT 검증
-    public boolean validateToken(String token) {
+    // JWT 검증 (서명 검증과 claims 추출을 한 번에 수행, 이미 검증된 토큰은 캐시에서 조회)
+    public TokenVerification verifyToken(String token) {
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return TokenVerification.success(cached);
+        }
+
+        TokenVerification verification = parseToken(token);
+        if (verification.isValid()) {
+            verifiedTokenCache.put(token, verification.getClaims());
+        }
+        return verification;
+    }
+
+    private TokenVerification parseToken(String token) {
         try {
-            Jwts.parser().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception exception) {
-            return false;
+            return TokenVerification.success(jwtParser.parseSignedClaims(token).getPayload());
+        } catch (ExpiredJwtException exception) {
+            return TokenVerification.failure(TokenVerification.Failure.EXPIRED);
+        } catch (SecurityException exception) {
+            return TokenVerification.failure(TokenVerification.Failure.INVALID_SIGNATURE);
+        } catch (MalformedJwtException exception) {
+            return TokenVerification.failure(TokenVerification.Failure.MALFORMED);
+        } catch (UnsupportedJwtException exception) {
+            return TokenVerification.failure(TokenVerification.Failure.UNSUPPORTED);
+        } catch (IllegalArgumentException exception) {
+            return TokenVerification.failure(TokenVerification.Failure.EMPTY);
+        } catch (JwtException exception) {
+            return TokenVerification.failure(TokenVerification.Failure.MALFORMED);
         }
     }
 
+    // JWT 검증
+    public boolean validateToken(String token) {
+        return verifyToken(token).isValid();
+    }
+
     // JWT에서 사용자 정보 가져오기
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
 }
@@ -0,0 +1,102 @@
+package com.auth.infrastructure.security;
+
+import com.auth.common.util.BloomFilter;
+import com.auth.domain.event.UserChangedEvent;
+import com.auth.infrastructure.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 사용자명 필터
+ * - Bloom Filter 에 없는 사용자명은 DB 조회 없이 "존재하지 않음"으로 판단
+ * - Bloom Filter 의 false positive 로 DB 에서 조회되지 않은 사용자명은 negative cache 에 보관
+ * - 시작 시 UserRepository 에서 전체 사용자명을 읽어 구성하고, 가입 시 UserChangedEvent 로 갱신
+ */
+@Slf4j
+@Component
+public class KnownUsernameFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final BloomFilter bloomFilter;
+    private final Cache<String, Boolean> negativeCache;
+
+    // 초기 구성이 끝나기 전에는 모든 사용자명을 DB 에서 확인
+    private volatile boolean ready;
+
+    public KnownUsernameFilter(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${user.filter.expected-users:1000000}") long expectedUsers,
+                               @Value("${user.filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${user.negative-cache.maximum-size:10000}") long negativeCacheSize,
+                               @Value("${user.negative-cache.ttl:5m}") Duration negativeCacheTtl) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bloomFilter = new BloomFilter(expectedUsers, falsePositiveRate);
+        this.negativeCache = Caffeine.newBuilder()
+                .maximumSize(negativeCacheSize)
+                .expireAfterWrite(negativeCacheTtl)
+                .build();
+    }
+
+    // 시작 시 가입된 사용자명으로 필터 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        AtomicLong count = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                usernames.forEach(username -> {
+                    bloomFilter.put(username);
+                    count.incrementAndGet();
+                });
+            }
+        });
+        ready = true;
+        log.info("Known username filter loaded. users: {}, bits: {}", count.get(), bloomFilter.bitSize());
+    }
+
+    /**
+     * DB 에 존재할 수 있는 사용자명인지 판단
+     *
+     * @param username : 사용자명
+     * @return : false 이면 확실히 존재하지 않음
+     */
+    public boolean mightExist(String username) {
+        if (!ready) {
+            return true;
+        }
+        return bloomFilter.mightContain(username) && negativeCache.getIfPresent(username) == null;
+    }
+
+    // DB 조회 결과 존재하지 않는 사용자명 기록
+    public void recordMissing(String username) {
+        negativeCache.put(username, Boolean.TRUE);
+    }
+
+    // 가입 시 필터 갱신 (커밋 전에 바로 추가, Bloom Filter 는 false positive 만 있으므로 먼저 넣어도 안전)
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        bloomFilter.put(event.getUsername());
+    }
+
+    // negative cache 는 커밋 후 무효화 (커밋 전 로그인 요청이 recordMissing 으로 다시 넣은 값까지 제거)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCommitted(UserChangedEvent event) {
+        negativeCache.invalidate(event.getUsername());
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.auth.infrastructure.security;
+
+import com.auth.domain.event.UserChangedEvent;
+import com.auth.infrastructure.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자명 별 로그인 실패 횟수 추적 및 계정 잠금
+ * - window 안에 maxFailures 번 실패하면 lockDuration 동안 잠근다. (sliding window)
+ * - 실패 기록과 잠금 확인은 메모리에서만 수행 (사용자별 객체 단위 동기화라 다른 사용자와 경합 없음)
+ * - 잠금 상태는 대기열에 모아 두었다가 주기적으로 한 트랜잭션에서 users.locked_until 에 반영
+ *   (로그인 실패 경로에서 DB 쓰기를 하지 않는다.)
+ * - 존재하지 않는 사용자명도 똑같이 잠가서 잠금 여부로 가입 여부를 알 수 없게 한다.
+ * - metrics : auth.login.locked (잠금 발생 수)
+ */
+@Slf4j
+@Component
+public class LoginFailureTracker {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final int maxFailures;
+    private final long windowMillis;
+    private final Duration lockDuration;
+
+    // 사용자명 -> 최근 실패 시각
+    private final Cache<String, FailureWindow> failures;
+
+    // 사용자명 -> 잠금 해제 시각
+    private final Cache<String, Instant> locks;
+
+    // DB 반영 대기 중인 잠금 (사용자명 -> 잠금 해제 시각)
+    private final Map<String, Instant> pendingLocks = new ConcurrentHashMap<>();
+
+    private final Counter lockedCounter;
+
+    public LoginFailureTracker(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${login.lockout.enabled:true}") boolean enabled,
+                               @Value("${login.lockout.max-failures:5}") int maxFailures,
+                               @Value("${login.lockout.window:15m}") Duration window,
+                               @Value("${login.lockout.duration:15m}") Duration lockDuration,
+                               @Value("${login.lockout.maximum-size:100000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxFailures = maxFailures;
+        this.windowMillis = window.toMillis();
+        this.lockDuration = lockDuration;
+        // window 동안 실패가 없던 사용자는 기록이 필요 없으므로 제거
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(window)
+                .build();
+        this.locks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(lockDuration)
+                .build();
+        this.lockedCounter = Counter.builder("auth.login.locked")
+                .description("로그인 실패 누적으로 잠긴 계정 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 잠긴 사용자명인지 확인 (메모리 조회만 수행)
+     *
+     * @param username : 사용자명
+     * @return : 잠금 여부
+     */
+    public boolean isLocked(String username) {
+        if (!enabled || username == null) {
+            return false;
+        }
+        Instant lockedUntil = locks.getIfPresent(username);
+        return lockedUntil != null && lockedUntil.isAfter(Instant.now());
+    }
+
+    /**
+     * 로그인 실패 기록 (window 안에 maxFailures 번째 실패이면 잠금)
+     *
+     * @param username : 사용자명
+     */
+    public void recordFailure(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+        FailureWindow window = failures.get(username, key -> new FailureWindow(maxFailures));
+        if (window.record(System.currentTimeMillis(), windowMillis)) {
+            lock(username);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 실패 기록 초기화
+     *
+     * @param username : 사용자명
+     */
+    public void recordSuccess(String username) {
+        if (enabled && username != null) {
+            failures.invalidate(username);
+        }
+    }
+
+    private void lock(String username) {
+        Instant lockedUntil = Instant.now().plus(lockDuration);
+        locks.put(username, lockedUntil);
+        pendingLocks.put(username, lockedUntil);
+        failures.invalidate(username);
+        lockedCounter.increment();
+        log.warn("Account locked. username: {}, until: {}", username, lockedUntil);
+    }
+
+    /**
+     * 대기 중인 잠금을 DB 에 일괄 반영
+     * - 실제로 반영된(가입된) 사용자만 UserChangedEvent 로 캐시를 무효화
+     */
+    @Scheduled(fixedDelayString = "${login.lockout.flush-interval:1000}")
+    public void flush() {
+        if (pendingLocks.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Instant>> batch = new ArrayList<>();
+        for (String username : pendingLocks.keySet()) {
+            Instant lockedUntil = pendingLocks.remove(username);
+            if (lockedUntil != null) {
+                batch.add(Map.entry(username, lockedUntil));
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<String, Instant> entry : batch) {
+                    if (userRepository.updateLockedUntil(entry.getKey(), entry.getValue()) > 0) {
+                        eventPublisher.publishEvent(new UserChangedEvent(entry.getKey()));
+                    }
+                }
+            });
+            log.debug("Account locks flushed. count: {}", batch.size());
+        } catch (RuntimeException exception) {
+            // 다음 주기에 다시 시도 (그 사이 새로 잠긴 값이 있으면 그 값을 유지)
+            batch.forEach(entry -> pendingLocks.putIfAbsent(entry.getKey(), entry.getValue()));
+            log.error("Failed to flush account locks. count: {}", batch.size(), exception);
+        }
+    }
+
+    // 최근 maxFailures 번의 실패 시각을 담는 원형 버퍼
+    private static final class FailureWindow {
+
+        private final long[] times;
+        private int next;
+        private int count;
+
+        private FailureWindow(int size) {
+            this.times = new long[size];
+        }
+
+        // 실패 기록 후, 가장 오래된 실패까지 모두 window 안이면 true
+        private synchronized boolean record(long now, long windowMillis) {
+            times[next] = now;
+            next = (next + 1) % times.length;
+            if (count < times.length) {
+                count++;
+            }
+            return count == times.length && now - times[next] < windowMillis;
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.auth.infrastructure.security;
+
+import com.auth.common.util.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인/회원가입 요청 수 제한
+ * - 클라이언트 IP 별 제한은 LoginRateLimitFilter 에서 요청 바디를 읽기 전에 확인
+ * - 사용자명 별 제한은 JwtAuthenticationFilter 에서 바디를 읽은 직후, 비밀번호 해싱 전에 확인
+ * - metrics : auth.login.rate-limited (key = ip | username)
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final RateLimiter clientLimiter;
+    private final RateLimiter usernameLimiter;
+    private final Counter clientRejectedCounter;
+    private final Counter usernameRejectedCounter;
+
+    public LoginRateLimiter(@Value("${login.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${login.rate-limit.ip.permits-per-second:10}") double clientPermitsPerSecond,
+                            @Value("${login.rate-limit.ip.burst:100}") int clientBurst,
+                            @Value("${login.rate-limit.username.permits-per-second:1}") double usernamePermitsPerSecond,
+                            @Value("${login.rate-limit.username.burst:30}") int usernameBurst,
+                            @Value("${login.rate-limit.maximum-size:100000}") long maximumSize,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.clientLimiter = new RateLimiter(clientPermitsPerSecond, clientBurst, maximumSize);
+        this.usernameLimiter = new RateLimiter(usernamePermitsPerSecond, usernameBurst, maximumSize);
+        this.clientRejectedCounter = Counter.builder("auth.login.rate-limited")
+                .tag("key", "ip")
+                .description("요청 수 제한으로 거절된 로그인/회원가입 요청 수")
+                .register(meterRegistry);
+        this.usernameRejectedCounter = Counter.builder("auth.login.rate-limited")
+                .tag("key", "username")
+                .description("요청 수 제한으로 거절된 로그인/회원가입 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 클라이언트 IP 별 요청 허용 여부
+     *
+     * @param clientIp : 클라이언트 IP
+     * @return : 허용되면 0, 거절되면 다음 요청까지 남은 시간(ns)
+     */
+    public long tryAcquireForClient(String clientIp) {
+        return tryAcquire(clientLimiter, clientIp, clientRejectedCounter);
+    }
+
+    /**
+     * 사용자명 별 로그인 허용 여부
+     *
+     * @param username : 사용자명
+     * @return : 허용되면 0, 거절되면 다음 요청까지 남은 시간(ns)
+     */
+    public long tryAcquireForUsername(String username) {
+        return tryAcquire(usernameLimiter, username, usernameRejectedCounter);
+    }
+
+    private long tryAcquire(RateLimiter limiter, String key, Counter rejectedCounter) {
+        if (!enabled || key == null) {
+            return 0;
+        }
+        long waitTime = limiter.tryAcquire(key);
+        if (waitTime > 0) {
+            rejectedCounter.increment();
+            log.debug("Login rate limit exceeded. key: {}", key);
+        }
+        return waitTime;
+    }
+
+}
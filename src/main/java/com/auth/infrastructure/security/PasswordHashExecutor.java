@@ -0,0 +1,136 @@
+package com.auth.infrastructure.security;
+
+import com.auth.common.exception.CustomException;
+import com.auth.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 전용 executor
+ * - 동시 해싱 수와 대기열 크기를 제한하고, 대기열이 가득 차면 즉시 SERVER_BUSY 로 거절
+ * - 실행 중 + 대기 중인 작업 수를 semaphore(스레드 수 + 대기열 크기)로 제한 (대기열 0 이면 스레드가 모두 사용 중일 때 거절)
+ * - 해싱 폭주가 servlet worker 전체를 점유하지 않도록 한다.
+ * - metrics : auth.password.hash (지연시간), auth.password.hash.queue (대기열 길이), auth.password.hash.rejected
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashExecutor(@Value("${password.hash.concurrency:0}") int concurrency,
+                                @Value("${password.hash.queue-capacity:100}") int queueCapacity,
+                                MeterRegistry meterRegistry) {
+        // 0 이하이면 CPU 코어 수만큼 동시 해싱
+        int threads = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+
+        // 대기열 길이는 permits 로 제한되므로 executor 의 대기열 자체는 크기 제한 없음
+        this.permits = new Semaphore(threads + Math.max(queueCapacity, 0));
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new HashThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("비밀번호 해싱/비교 지연시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("대기열 초과로 거절된 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("해싱 대기열 길이")
+                .register(meterRegistry);
+
+        log.info("Password hash executor threads: {}, queueCapacity: {}", threads, queueCapacity);
+    }
+
+    /**
+     * 해싱 작업 실행 (호출 스레드는 결과를 기다린다)
+     *
+     * @param task : 해싱 작업
+     * @return : 작업 결과
+     */
+    public <T> T execute(Supplier<T> task) {
+        if (!permits.tryAcquire()) {
+            rejectedCounter.increment();
+            log.warn("Password hash queue is full. queue: {}", executor.getQueue().size());
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        }
+
+        // permit 은 작업이 끝나는 시점(결과 전달 전)에 반환하고, 실행 전에 취소되면 done() 에서 반환
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releasePermit = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        FutureTask<T> future = new FutureTask<T>(() -> {
+            try {
+                return hashTimer.record(task);
+            } finally {
+                releasePermit.run();
+            }
+        }) {
+            @Override
+            protected void done() {
+                releasePermit.run();
+            }
+        };
+
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException exception) {
+            // 종료 중인 executor
+            releasePermit.run();
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CustomException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class HashThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.auth.infrastructure.security;
+
+import com.auth.common.util.PathPrefixTrie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록
+ * - SecurityConfig 의 permitAll 과 JwtAuthorizationFilter 의 토큰 검증 생략에 같은 목록을 사용
+ * - 시작 시 trie 로 한 번만 구성해 요청마다 경로 길이만큼만 비교한다.
+ */
+public final class PublicRoutes {
+
+    public static final String[] PATTERNS = {
+            // 회원가입, 로그인, 토큰 재발급
+            "/signup",
+            "/admin/signup",
+            "/login",
+            "/token/refresh",
+            // 공개키 목록 (JWKS)
+            "/.well-known/**",
+            // Swagger
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/webjars/**",
+            "/swagger-resources/**"
+    };
+
+    private static final PathPrefixTrie TRIE = new PathPrefixTrie();
+
+    static {
+        for (String pattern : PATTERNS) {
+            TRIE.add(pattern);
+        }
+    }
+
+    private PublicRoutes() {
+    }
+
+    /**
+     * 인증이 필요 없는 요청인지 확인
+     * - 경로는 FilterChainProxy 의 HttpFirewall 에서 이미 정규화/검증된 값
+     *
+     * @param request : 요청
+     * @return : 공개 경로 여부
+     */
+    public static boolean matches(HttpServletRequest request) {
+        return TRIE.matches(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+}
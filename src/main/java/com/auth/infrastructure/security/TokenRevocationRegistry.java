@@ -0,0 +1,108 @@
+package com.auth.infrastructure.security;
+
+import com.auth.common.util.BloomFilter;
+import com.auth.domain.entity.RevokedToken;
+import com.auth.infrastructure.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰(jti) 목록
+ * - DB(revoked_tokens)가 원본이며, 메모리에 Bloom Filter + 정확한 집합을 유지해 요청마다 I/O 없이 O(1)로 확인
+ * - 주기적으로 만료된 항목을 정리하고 DB 기준으로 다시 구성 (다른 인스턴스의 폐기 내역 반영)
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    // jti -> 토큰 만료 시각(ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+                                   @Value("${token.revocation.expected-entries:1000000}") long expectedEntries,
+                                   @Value("${token.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (I/O 없음)
+     *
+     * @param jti : 토큰 식별자
+     * @return : 폐기 여부
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        return bloomFilter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * @param jti       : 토큰 식별자
+     * @param expiresAt : 토큰 만료 시각
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(expiresAt)
+                .build());
+        register(jti, expiresAt.toEpochMilli());
+    }
+
+    // 메모리 목록에 추가 (rebuild 와 동시에 실행되지 않도록 동기화)
+    synchronized void register(String jti, long expiresAtMillis) {
+        revoked.put(jti, expiresAtMillis);
+        bloomFilter.put(jti);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+        log.info("Token revocation registry loaded. revoked: {}", revoked.size());
+    }
+
+    // 만료된 항목 정리 후 DB 기준으로 다시 구성
+    @Scheduled(fixedDelayString = "${token.revocation.prune-interval:600000}",
+            initialDelayString = "${token.revocation.prune-interval:600000}")
+    public void prune() {
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        reload();
+        log.info("Token revocation registry pruned. deleted: {}, revoked: {}", deleted, revoked.size());
+    }
+
+    private void reload() {
+        Instant now = Instant.now();
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            revoked.putIfAbsent(token.getJti(), token.getExpiresAt().toEpochMilli());
+        }
+        rebuild(now.toEpochMilli());
+    }
+
+    // 만료 항목 제거 후 Bloom Filter 재생성 (Bloom Filter 는 삭제를 지원하지 않음)
+    synchronized void rebuild(long nowMillis) {
+        revoked.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size()), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+}
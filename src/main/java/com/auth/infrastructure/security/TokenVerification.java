@@ -0,0 +1,47 @@
+package com.auth.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 검증 결과
+ * - 검증에 성공하면 claims, 실패하면 실패 사유를 가진다.
+ */
+public class TokenVerification {
+
+    private final Claims claims;
+    private final Failure failure;
+
+    private TokenVerification(Claims claims, Failure failure) {
+        this.claims = claims;
+        this.failure = failure;
+    }
+
+    public static TokenVerification success(Claims claims) {
+        return new TokenVerification(claims, null);
+    }
+
+    public static TokenVerification failure(Failure failure) {
+        return new TokenVerification(null, failure);
+    }
+
+    public boolean isValid() {
+        return failure == null;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public Failure getFailure() {
+        return failure;
+    }
+
+    public enum Failure {
+        EXPIRED,            // 만료된 토큰
+        INVALID_SIGNATURE,  // 서명 불일치
+        MALFORMED,          // 잘못된 형식
+        UNSUPPORTED,        // 지원하지 않는 토큰
+        EMPTY               // 빈 토큰
+    }
+
+}
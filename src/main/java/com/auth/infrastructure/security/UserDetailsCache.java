@@ -0,0 +1,118 @@
+package com.auth.infrastructure.security;
+
+import com.auth.domain.event.UserChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * UserDetailsServiceImpl 앞단의 사용자 스냅샷 캐시
+ * - 최대 크기 + TTL 기반 eviction
+ * - UserChangedEvent 수신 시 (트랜잭션 커밋 후) 즉시 무효화
+ * - 같은 key 의 동시 miss 는 한 번만 조회하고, 조회 중 무효화되면 조회 결과를 캐시에 남기지 않는다.
+ * - metrics : cache.gets / cache.evictions (cache=userDetails), auth.user.load (조회 지연시간)
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final boolean enabled;
+    private final AsyncCache<String, UserSnapshot> cache;
+    private final Timer loadTimer;
+
+    public UserDetailsCache(@Value("${user.cache.enabled:false}") boolean enabled,
+                            @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${user.cache.ttl:60s}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.loadTimer = Timer.builder("auth.user.load")
+                .description("사용자 조회 지연시간 (캐시 miss)")
+                .register(meterRegistry);
+
+        // 비활성화 시 캐시와 캐시 metrics 를 만들지 않음 (조회 지연시간만 기록)
+        if (enabled) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .buildAsync();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+        } else {
+            this.cache = null;
+        }
+
+        log.info("User details cache enabled: {}, maximumSize: {}, ttl: {}", enabled, maximumSize, ttl);
+    }
+
+    /**
+     * 사용자 스냅샷 조회 (없으면 loader 로 조회 후 캐시)
+     *
+     * @param username : 사용자명
+     * @param loader   : 캐시 miss 시 사용자 조회 함수
+     * @return : 사용자 스냅샷
+     */
+    public UserSnapshot get(String username, Function<String, UserSnapshot> loader) {
+        Function<String, UserSnapshot> timedLoader = key -> loadTimer.record(() -> loader.apply(key));
+
+        if (!enabled) {
+            return timedLoader.apply(username);
+        }
+
+        // map lock(compute) 안에서는 빈 future 만 등록하고, DB 조회는 lock 밖의 호출 스레드에서 수행
+        // (가상 스레드 실행 시 carrier 스레드 고정(pinning) 방지)
+        // 조회 중 무효화되면 future 가 map 에서 제거되므로 이전 값이 다시 저장되지 않는다.
+        CompletableFuture<UserSnapshot> loading = new CompletableFuture<>();
+        CompletableFuture<UserSnapshot> future = cache.get(username, (key, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(timedLoader.apply(username));
+            } catch (RuntimeException | Error exception) {
+                // 실패한 future 는 Caffeine 이 캐시에서 제거 (대기 중인 요청에도 같은 예외 전달)
+                loading.completeExceptionally(exception);
+            }
+        }
+        return join(future);
+    }
+
+    public void invalidate(String username) {
+        if (!enabled) {
+            return;
+        }
+        cache.synchronous().invalidate(username);
+    }
+
+    // 조회 실패(UsernameNotFoundException 등)는 원래 예외로 전달
+    private static UserSnapshot join(CompletableFuture<UserSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (exception.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    // 사용자 정보 변경 시 해당 entry 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUsername());
+    }
+
+}
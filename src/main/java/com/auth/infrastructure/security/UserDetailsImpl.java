@@ -3,11 +3,11 @@ package com.auth.infrastructure.security;
 import com.auth.domain.entity.User;
 import com.auth.domain.entity.UserRole;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 
 public class UserDetailsImpl implements UserDetails {
 
@@ -17,6 +17,23 @@ public class UserDetailsImpl implements UserDetails {
         this.user = user;
     }
 
+    /**
+     * 검증된 JWT claims 값만으로 인증 객체 생성 (DB 조회 없음)
+     * - password, nickname 은 포함되지 않는다.
+     *
+     * @param userId   : 사용자 ID
+     * @param username : 사용자명
+     * @param role     : 사용자 권한
+     * @return : claims 기반 UserDetailsImpl
+     */
+    public static UserDetailsImpl of(Long userId, String username, UserRole role) {
+        return new UserDetailsImpl(User.builder()
+                .userId(userId)
+                .username(username)
+                .userRole(role)
+                .build());
+    }
+
     public User getUser() {
         return user;
     }
@@ -31,16 +48,11 @@ public class UserDetailsImpl implements UserDetails {
         return user.getUsername();
     }
 
+    // UserRole 이 가진 불변 권한 목록을 그대로 반환 (호출마다 객체를 생성하지 않음)
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         UserRole role = user.getUserRole();
-        String authority = role.toString();
-
-        SimpleGrantedAuthority simpleGrantedAuthority = new SimpleGrantedAuthority(authority);
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(simpleGrantedAuthority);
-
-        return authorities;
+        return role == null ? List.of() : role.getAuthorities();
     }
 
     @Override
@@ -48,9 +60,11 @@ public class UserDetailsImpl implements UserDetails {
         return true;
     }
 
+    // 로그인 실패 누적으로 잠긴 계정은 잠금 해제 시각 전까지 인증 불가 (비밀번호 비교 전에 확인됨)
     @Override
     public boolean isAccountNonLocked() {
-        return true;
+        Instant lockedUntil = user.getLockedUntil();
+        return lockedUntil == null || lockedUntil.isBefore(Instant.now());
     }
 
     @Override
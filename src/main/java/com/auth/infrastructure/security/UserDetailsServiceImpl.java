@@ -1,28 +1,72 @@
 package com.auth.infrastructure.security;
 
-import com.auth.common.exception.CustomException;
-import com.auth.common.exception.ErrorCode;
 import com.auth.domain.entity.User;
+import com.auth.domain.event.UserChangedEvent;
 import com.auth.infrastructure.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final KnownUsernameFilter knownUsernameFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 사용자 조회
+     * - 존재하지 않는 사용자는 UsernameNotFoundException 으로 처리되어
+     *   로그인 시 DaoAuthenticationProvider 의 timing attack 방어(더미 비밀번호 비교)를 거쳐 INVALID_CREDENTIALS 로 응답된다.
+     */
     @Override
-    public UserDetails loadUserByUsername(String username) throws CustomException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // 가입되지 않은 사용자명은 DB 조회 없이 실패
+        if (!knownUsernameFilter.mightExist(username)) {
+            throw new UsernameNotFoundException(username);
+        }
 
-        return new UserDetailsImpl(user);
+        UserSnapshot snapshot = userDetailsCache.get(username, this::findUserSnapshot);
+
+        return new UserDetailsImpl(snapshot.toUser());
+    }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 strength 가 현재 설정보다 낮으면 DaoAuthenticationProvider 가 호출
+     *
+     * @param user        : 인증된 사용자
+     * @param newPassword : 현재 strength 로 재해싱된 비밀번호
+     * @return : 새 비밀번호가 반영된 사용자
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+        log.info("Password rehashed. username: {}", user.getUsername());
+
+        User current = ((UserDetailsImpl) user).getUser();
+        return new UserDetailsImpl(new UserSnapshot(current.getUserId(), current.getUsername(), newPassword,
+                current.getUserRole(), current.getLockedUntil()).toUser());
+    }
+
+    // 인증에 필요한 컬럼만 읽기 전용으로 조회 (nickname 제외, 엔티티 로딩 없음)
+    private UserSnapshot findUserSnapshot(String username) {
+        return userRepository.findCredentialsByUsername(username)
+                .map(UserSnapshot::from)
+                .orElseThrow(() -> {
+                    knownUsernameFilter.recordMissing(username);
+                    return new UsernameNotFoundException(username);
+                });
     }
 
 }
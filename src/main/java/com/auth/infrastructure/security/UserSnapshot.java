@@ -0,0 +1,51 @@
+package com.auth.infrastructure.security;
+
+import com.auth.domain.entity.User;
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.repository.UserCredentials;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 인증에 필요한 사용자 정보의 불변 스냅샷
+ * - 영속성 컨텍스트와 분리되어 캐시에 보관해도 안전하다.
+ */
+@Getter
+public class UserSnapshot {
+
+    private final Long userId;
+    private final String username;
+    private final String password;
+    private final UserRole userRole;
+    private final Instant lockedUntil;
+
+    public UserSnapshot(Long userId, String username, String password, UserRole userRole, Instant lockedUntil) {
+        this.userId = userId;
+        this.username = username;
+        this.password = password;
+        this.userRole = userRole;
+        this.lockedUntil = lockedUntil;
+    }
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getUserId(), user.getUsername(), user.getPassword(), user.getUserRole(), user.getLockedUntil());
+    }
+
+    public static UserSnapshot from(UserCredentials credentials) {
+        return new UserSnapshot(credentials.getUserId(), credentials.getUsername(), credentials.getPassword(),
+                credentials.getUserRole(), credentials.getLockedUntil());
+    }
+
+    // 인증 객체에서 사용할 비영속 User 생성
+    public User toUser() {
+        return User.builder()
+                .userId(userId)
+                .username(username)
+                .password(password)
+                .userRole(userRole)
+                .lockedUntil(lockedUntil)
+                .build();
+    }
+
+}
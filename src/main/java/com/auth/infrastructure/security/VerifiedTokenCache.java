@@ -0,0 +1,146 @@
+package com.auth.infrastructure.security;
+
+import com.auth.common.util.HashUtils;
+import com.auth.infrastructure.security.key.SigningKeysChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 JWT claims 캐시
+ * - key : 토큰 문자열의 SHA-256 digest (원본 토큰은 보관하지 않음)
+ * - 각 entry는 토큰의 exp 시점에 만료되고, 최대 크기를 넘으면 eviction
+ * - 키 링이 교체되면 전체 비움 (제거된 kid 로 서명된 토큰이 캐시 hit 으로 통과하지 않도록)
+ * - metrics : auth.token.cache.hits / auth.token.cache.misses
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final Cache<String, Claims> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.enabled = enabled;
+        this.cache = enabled
+                ? Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfter(new ExpireAtTokenExpiration())
+                    .build()
+                : null;
+
+        log.info("Verified token cache enabled: {}, maximumSize: {}", enabled, maximumSize);
+    }
+
+    /**
+     * 캐시된 claims 조회
+     *
+     * @param token : JWT
+     * @return : 검증된 claims, 없으면 null
+     */
+    public Claims get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        Claims claims = cache.getIfPresent(digest(token));
+        if (claims == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return claims;
+    }
+
+    /**
+     * 검증된 claims 저장 (exp가 없는 토큰은 저장하지 않음)
+     *
+     * @param token  : JWT
+     * @param claims : 검증된 claims
+     */
+    public void put(String token, Claims claims) {
+        if (!enabled || claims.getExpiration() == null) {
+            return;
+        }
+        cache.put(digest(token), claims);
+    }
+
+    /**
+     * 키 링 교체 시 캐시 비우기
+     * - claims 에는 kid 가 남지 않으므로 entry 별로 고르지 않고 전체를 비운다 (교체는 드문 이벤트)
+     *
+     * @param event : 키 링 교체 이벤트
+     */
+    @EventListener
+    public void onSigningKeysChanged(SigningKeysChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        cache.invalidateAll();
+        log.info("Verified token cache cleared after signing key change. keys: {}", event.getKeys().size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        return enabled ? cache.estimatedSize() : 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.token.cache.hits", hitCount, LongAdder::sum).register(registry);
+        FunctionCounter.builder("auth.token.cache.misses", missCount, LongAdder::sum).register(registry);
+    }
+
+    private String digest(String token) {
+        return HashUtils.sha256(token);
+    }
+
+    // 토큰의 exp 시점까지만 entry 유지
+    private static class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
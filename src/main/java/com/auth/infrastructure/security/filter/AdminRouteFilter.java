@@ -0,0 +1,63 @@
+package com.auth.infrastructure.security.filter;
+
+import com.auth.application.aop.AdminRouteTable;
+import com.auth.application.aop.AllowedRoles;
+import com.auth.common.advice.ErrorResponseWriter;
+import com.auth.common.exception.ErrorCode;
+import com.auth.domain.entity.UserRole;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * @ValidateAdmin handler 의 권한 확인 (security.admin-check.mode=filter)
+ * - AdminRouteTable 에서 요청 경로의 허용 권한을 찾아 dispatch 전에 확인
+ * - ValidateAdminAspect 와 동일하게 권한이 없으면 ACCESS_DENIED 로 응답
+ */
+@Slf4j
+public class AdminRouteFilter extends OncePerRequestFilter {
+
+    private final AdminRouteTable adminRouteTable;
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public AdminRouteFilter(AdminRouteTable adminRouteTable, ErrorResponseWriter errorResponseWriter) {
+        this.adminRouteTable = adminRouteTable;
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Set<UserRole> allowedRoles = adminRouteTable.findAllowedRoles(request);
+        if (allowedRoles == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            log.warn("인증 객체가 없습니다.");
+            errorResponseWriter.write(response, ErrorCode.INVALID_TOKEN);
+            return;
+        }
+
+        UserRole currentRole = AllowedRoles.currentRole(authentication);
+        if (currentRole == null || !allowedRoles.contains(currentRole)) {
+            log.warn("Access denied. username: {}, role: {}, allowedRoles: {}", authentication.getName(), currentRole, allowedRoles);
+            errorResponseWriter.write(response, ErrorCode.ACCESS_DENIED);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+}
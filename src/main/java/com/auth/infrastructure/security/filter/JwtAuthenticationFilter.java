@@ -1,44 +1,80 @@
 package com.auth.infrastructure.security.filter;
 
-import com.auth.common.dto.ErrorResponse;
+import com.auth.application.service.TokenService;
+import com.auth.common.advice.ErrorResponseWriter;
 import com.auth.common.exception.CustomException;
 import com.auth.common.exception.ErrorCode;
 import com.auth.domain.entity.UserRole;
 import com.auth.infrastructure.security.JwtUtil;
+import com.auth.infrastructure.security.LoginFailureTracker;
+import com.auth.infrastructure.security.LoginRateLimiter;
 import com.auth.infrastructure.security.UserDetailsImpl;
 import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.LoginResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
-    private final JwtUtil jwtUtil;
-    @Autowired
-    private ObjectMapper objectMapper;
+    // 실패 기록에 사용할 사용자명을 보관하는 request attribute
+    private static final String USERNAME_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".username";
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    private final TokenService tokenService;
+
+    // 공유 ObjectMapper 로부터 미리 생성한 reader / writer (thread-safe)
+    private final ObjectReader loginRequestReader;
+    private final ObjectWriter loginResponseWriter;
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final LoginFailureTracker loginFailureTracker;
+
+    public JwtAuthenticationFilter(TokenService tokenService, ObjectMapper objectMapper, ErrorResponseWriter errorResponseWriter,
+                                   LoginRateLimiter loginRateLimiter, LoginFailureTracker loginFailureTracker) {
+        this.tokenService = tokenService;
+        this.loginRequestReader = objectMapper.readerFor(LoginRequest.class);
+        this.loginResponseWriter = objectMapper.writerFor(LoginResponse.class);
+        this.errorResponseWriter = errorResponseWriter;
+        this.loginRateLimiter = loginRateLimiter;
+        this.loginFailureTracker = loginFailureTracker;
         setFilterProcessesUrl("/login");
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         try {
-            LoginRequest requestDto = new ObjectMapper().readValue(request.getInputStream(), LoginRequest.class);
+            LoginRequest requestDto = loginRequestReader.readValue(request.getInputStream());
+
+            // 사용자명 별 요청 수 제한 (비밀번호 해싱 전에 거절)
+            long waitTime = loginRateLimiter.tryAcquireForUsername(requestDto.getUsername());
+            if (waitTime > 0) {
+                LoginRateLimitFilter.writeTooManyRequests(response, errorResponseWriter, waitTime);
+                return null;
+            }
 
+            // 잠긴 계정은 비밀번호 해싱 없이 거절
+            if (loginFailureTracker.isLocked(requestDto.getUsername())) {
+                writeError(response, ErrorCode.ACCOUNT_LOCKED);
+                return null;
+            }
+
+            request.setAttribute(USERNAME_ATTRIBUTE, requestDto.getUsername());
             return getAuthenticationManager().authenticate(
                     new UsernamePasswordAuthenticationToken(
                             requestDto.getUsername(),
@@ -46,6 +82,10 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                             null
                     )
             );
+        } catch (CustomException e) {
+            // 해싱 대기열 초과 등 인증 외적인 거절은 해당 에러 코드로 즉시 응답
+            writeError(response, e.getErrorCode());
+            return null;
         } catch (IOException e) {
             log.error(e.getMessage());
             throw new RuntimeException(e.getMessage());
@@ -54,31 +94,42 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException {
-        String username = ((UserDetailsImpl) authResult.getPrincipal()).getUsername();
-        UserRole role = ((UserDetailsImpl) authResult.getPrincipal()).getUser().getUserRole();
+        UserDetailsImpl userDetails = (UserDetailsImpl) authResult.getPrincipal();
+        Long userId = userDetails.getUser().getUserId();
+        String username = userDetails.getUsername();
+        UserRole role = userDetails.getUser().getUserRole();
+        loginFailureTracker.recordSuccess(username);
 
-        String token = jwtUtil.createToken(username, role);
-        response.addHeader(JwtUtil.AUTHORIZATION_HEADER, token);
+        // 액세스 토큰 + 리프레시 토큰 발급
+        LoginResponse loginResponse = tokenService.issueTokens(userId, username, role);
+        response.addHeader(JwtUtil.AUTHORIZATION_HEADER, loginResponse.getToken());
 
         // 응답 설정
         response.setStatus(HttpServletResponse.SC_OK);
-        response.setContentType("application/json;charset=UTF-8");
-
-        // 응답 바디 구성
-        Map<String, String> body = new HashMap<>();
-        body.put("token", token);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8");
 
         // JSON 응답 전송
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.getWriter().write(objectMapper.writeValueAsString(body));
+        loginResponseWriter.writeValue(response.getOutputStream(), loginResponse);
     }
 
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
-        ErrorResponse errorResponse = new ErrorResponse(ErrorCode.INVALID_CREDENTIALS);
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.setStatus(400);
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        // DB 에 반영된 잠금 (다른 인스턴스에서 잠긴 경우 등), 비밀번호 비교 전에 확인됨
+        if (failed instanceof LockedException) {
+            errorResponseWriter.write(response, ErrorCode.ACCOUNT_LOCKED);
+            return;
+        }
+
+        loginFailureTracker.recordFailure((String) request.getAttribute(USERNAME_ATTRIBUTE));
+        errorResponseWriter.write(response, ErrorCode.INVALID_CREDENTIALS);
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) {
+        try {
+            errorResponseWriter.write(response, errorCode);
+        } catch (IOException e) {
+            log.error(e.getMessage());
+        }
     }
 
 }
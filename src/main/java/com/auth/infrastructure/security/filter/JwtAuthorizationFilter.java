@@ -1,10 +1,14 @@
 package com.auth.infrastructure.security.filter;
 
-import com.auth.common.dto.ErrorResponse;
+import com.auth.common.advice.ErrorResponseWriter;
 import com.auth.common.exception.ErrorCode;
+import com.auth.domain.entity.UserRole;
 import com.auth.infrastructure.security.JwtUtil;
+import com.auth.infrastructure.security.PublicRoutes;
+import com.auth.infrastructure.security.TokenRevocationRegistry;
+import com.auth.infrastructure.security.TokenVerification;
+import com.auth.infrastructure.security.UserDetailsImpl;
 import com.auth.infrastructure.security.UserDetailsServiceImpl;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -28,9 +32,26 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final UserDetailsServiceImpl userDetailsService;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService) {
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    // true 이면 DB 조회 없이 claims 만으로 인증 객체 생성
+    private final boolean statelessPrincipal;
+
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, TokenRevocationRegistry tokenRevocationRegistry,
+                                  ErrorResponseWriter errorResponseWriter, boolean statelessPrincipal) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.errorResponseWriter = errorResponseWriter;
+        this.statelessPrincipal = statelessPrincipal;
+    }
+
+    // 공개 경로는 Authorization 헤더가 있어도 토큰 검증, 사용자 조회를 하지 않는다.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicRoutes.matches(request);
     }
 
     @Override
@@ -40,18 +61,33 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(tokenValue)) {
 
-            if (!jwtUtil.validateToken(tokenValue)) {
-                ErrorResponse errorResponse = new ErrorResponse(ErrorCode.INVALID_TOKEN);
-                ObjectMapper objectMapper = new ObjectMapper();
-                response.setStatus(400);
-                response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+            // 서명 검증과 claims 추출을 한 번의 파싱으로 처리
+            TokenVerification verification = jwtUtil.verifyToken(tokenValue);
+
+            if (!verification.isValid()) {
+                log.warn("Invalid JWT token: {}", verification.getFailure());
+                errorResponseWriter.write(response, ErrorCode.INVALID_TOKEN);
                 return;
             }
 
-            Claims info = jwtUtil.getUserInfoFromToken(tokenValue);
+            Claims info = verification.getClaims();
+
+            // 폐기된 토큰 확인 (메모리 조회만 수행)
+            if (tokenRevocationRegistry.isRevoked(info.getId())) {
+                log.warn("Revoked JWT token: {}", info.getId());
+                errorResponseWriter.write(response, ErrorCode.INVALID_TOKEN);
+                return;
+            }
+
+            // claims 만으로 principal 을 만드는 경우, 권한 claim 이 없거나 알 수 없는 값이면 거부
+            if (statelessPrincipal && UserRole.fromAuthority(info.get(JwtUtil.AUTHORIZATION_KEY, String.class)) == null) {
+                log.warn("Unknown role claim in JWT token: {}", info.getId());
+                errorResponseWriter.write(response, ErrorCode.INVALID_TOKEN);
+                return;
+            }
 
             try {
-                setAuthentication(info.getSubject());
+                setAuthentication(info);
             } catch (Exception e) {
                 log.error(e.getMessage());
                 return;
@@ -62,18 +98,27 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     }
 
     // 인증 처리
-    public void setAuthentication(String username) {
+    public void setAuthentication(Claims info) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(username);
+        Authentication authentication = createAuthentication(info);
         context.setAuthentication(authentication);
 
         SecurityContextHolder.setContext(context);
     }
 
     // 인증 객체 생성
-    private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    private Authentication createAuthentication(Claims info) {
+        UserDetails userDetails = statelessPrincipal
+                ? createPrincipalFromClaims(info)
+                : userDetailsService.loadUserByUsername(info.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
+    // 검증된 claims(sub, auth, uid)로 principal 생성
+    private UserDetails createPrincipalFromClaims(Claims info) {
+        String role = info.get(JwtUtil.AUTHORIZATION_KEY, String.class);
+        Long userId = info.get(JwtUtil.USER_ID_KEY, Long.class);
+        return UserDetailsImpl.of(userId, info.getSubject(), UserRole.fromAuthority(role));
+    }
+
 }
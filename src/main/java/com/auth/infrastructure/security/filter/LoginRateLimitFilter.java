@@ -0,0 +1,65 @@
+package com.auth.infrastructure.security.filter;
+
+import com.auth.common.advice.ErrorResponseWriter;
+import com.auth.common.exception.ErrorCode;
+import com.auth.infrastructure.security.LoginRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/회원가입 요청의 클라이언트 IP 별 요청 수 제한
+ * - JwtAuthenticationFilter 앞에서 동작하므로 제한을 넘은 요청은 바디 파싱이나 비밀번호 해싱 없이 429 로 거절
+ * - 클라이언트 IP 는 request.getRemoteAddr() (프록시 뒤에서는 server.forward-headers-strategy 설정 필요)
+ * - 경로는 MVC 와 같이 디코딩 후 비교 (/log%69n 등 인코딩된 경로도 제한 대상)
+ * - 사용자명 별 제한은 로그인에만 적용 (회원가입의 사용자명은 요청자가 정하는 값이라 사용자명마다 버킷을 두어도 제한이 되지 않음)
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final RequestMatcher RATE_LIMITED_REQUESTS = new OrRequestMatcher(
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, "/login"),
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, "/signup"),
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, "/admin/signup"));
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public LoginRateLimitFilter(LoginRateLimiter loginRateLimiter, ErrorResponseWriter errorResponseWriter) {
+        this.loginRateLimiter = loginRateLimiter;
+        this.errorResponseWriter = errorResponseWriter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !RATE_LIMITED_REQUESTS.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long waitTime = loginRateLimiter.tryAcquireForClient(request.getRemoteAddr());
+        if (waitTime > 0) {
+            writeTooManyRequests(response, errorResponseWriter, waitTime);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 미리 직렬화된 429 응답 + Retry-After(초) 전송
+    static void writeTooManyRequests(HttpServletResponse response, ErrorResponseWriter errorResponseWriter, long waitTime) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitTime + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        errorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS);
+    }
+
+}
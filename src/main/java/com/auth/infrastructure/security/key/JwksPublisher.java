@@ -0,0 +1,136 @@
+package com.auth.infrastructure.security.key;
+
+import com.auth.common.util.HashUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키 링의 공개키를 JWK Set(RFC 7517) 으로 직렬화해 보관
+ * - 키 링이 바뀔 때만 다시 직렬화하고, 요청마다 같은 byte 배열과 ETag 를 그대로 응답한다.
+ * - HS256 키는 비밀키이므로 공개하지 않는다. (HS256 모드에서는 빈 목록)
+ * - 키는 모든 인스턴스가 같은 키 파일(jwt.signing.key-location)에서 kid 순으로 읽으므로,
+ *   인스턴스마다 같은 body 와 ETag 를 응답한다. (로드밸런서 뒤에서도 304 가 유지됨)
+ */
+@Slf4j
+@Component
+public class JwksPublisher {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    // Ed25519 원본 공개키 길이 (X.509 인코딩의 마지막 32 byte)
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private final ObjectMapper objectMapper;
+
+    private volatile JwkSet jwkSet;
+
+    public JwksPublisher(ObjectMapper objectMapper, SigningKeyRing signingKeyRing) {
+        this.objectMapper = objectMapper;
+        this.jwkSet = serialize(signingKeyRing.getKeys());
+    }
+
+    @EventListener
+    public void onSigningKeysChanged(SigningKeysChangedEvent event) {
+        jwkSet = serialize(event.getKeys());
+        log.info("JWKS regenerated. etag: {}", jwkSet.etag);
+    }
+
+    /**
+     * 직렬화된 JWK Set
+     *
+     * @return : UTF-8 JSON byte 배열 (수정 금지)
+     */
+    public byte[] getBody() {
+        return jwkSet.body;
+    }
+
+    /**
+     * 현재 JWK Set 의 strong ETag (따옴표 포함)
+     *
+     * @return : ETag
+     */
+    public String getEtag() {
+        return jwkSet.etag;
+    }
+
+    private JwkSet serialize(List<SigningKey> signingKeys) {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (SigningKey signingKey : signingKeys) {
+            if (signingKey.getAlgorithm().isAsymmetric()) {
+                keys.add(toJwk(signingKey));
+            }
+        }
+
+        try {
+            String json = objectMapper.writeValueAsString(Map.of("keys", keys));
+            return new JwkSet(json.getBytes(StandardCharsets.UTF_8), "\"" + HashUtils.sha256(json) + "\"");
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Failed to serialize JWKS", exception);
+        }
+    }
+
+    private Map<String, Object> toJwk(SigningKey signingKey) {
+        Key publicKey = signingKey.getVerificationKey();
+        Map<String, Object> jwk = new LinkedHashMap<>();
+
+        switch (signingKey.getAlgorithm()) {
+            case ES256 -> {
+                ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", encodeCoordinate(ecPublicKey.getW().getAffineX()));
+                jwk.put("y", encodeCoordinate(ecPublicKey.getW().getAffineY()));
+            }
+            case EdDSA -> {
+                byte[] encoded = publicKey.getEncoded();
+                jwk.put("kty", "OKP");
+                jwk.put("crv", "Ed25519");
+                jwk.put("x", BASE64_URL.encodeToString(
+                        Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length)));
+            }
+            default -> throw new IllegalArgumentException("Not a public key algorithm: " + signingKey.getAlgorithm());
+        }
+
+        jwk.put("kid", signingKey.getKid());
+        jwk.put("use", "sig");
+        jwk.put("alg", signingKey.getAlgorithm().name());
+        return jwk;
+    }
+
+    // P-256 좌표는 부호 없는 32 byte big-endian 으로 고정 (RFC 7518 6.2.1.2)
+    private String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, fixed.length);
+        System.arraycopy(bytes, bytes.length - length, fixed, fixed.length - length, length);
+        return BASE64_URL.encodeToString(fixed);
+    }
+
+    // 직렬화된 body 와 ETag (불변)
+    private static final class JwkSet {
+
+        private final byte[] body;
+        private final String etag;
+
+        private JwkSet(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+    }
+
+}
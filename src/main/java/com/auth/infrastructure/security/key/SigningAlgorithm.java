@@ -0,0 +1,59 @@
+package com.auth.infrastructure.security.key;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.PrivateKey;
+
+/**
+ * JWT 서명 알고리즘
+ * - HS256 : 대칭키 (jwt.secret.key), 검증하는 서비스도 secret 을 알아야 한다.
+ * - ES256 : ECDSA P-256, 공개키로 검증
+ * - EdDSA : Ed25519, 공개키로 검증
+ * - 비대칭 키는 생성하지 않고 jwt.signing.key-location 의 PEM 파일에서 읽는다. (SigningKeyRing)
+ */
+public enum SigningAlgorithm {
+
+    HS256(false) {
+        @Override
+        public JwtBuilder sign(JwtBuilder builder, Key signingKey) {
+            return builder.signWith((SecretKey) signingKey, Jwts.SIG.HS256);
+        }
+    },
+
+    ES256(true) {
+        @Override
+        public JwtBuilder sign(JwtBuilder builder, Key signingKey) {
+            return builder.signWith((PrivateKey) signingKey, Jwts.SIG.ES256);
+        }
+    },
+
+    EdDSA(true) {
+        @Override
+        public JwtBuilder sign(JwtBuilder builder, Key signingKey) {
+            return builder.signWith((PrivateKey) signingKey, Jwts.SIG.EdDSA);
+        }
+    };
+
+    private final boolean asymmetric;
+
+    SigningAlgorithm(boolean asymmetric) {
+        this.asymmetric = asymmetric;
+    }
+
+    public boolean isAsymmetric() {
+        return asymmetric;
+    }
+
+    /**
+     * builder 에 서명 키와 알고리즘 지정
+     *
+     * @param builder    : JWT builder
+     * @param signingKey : 서명 키 (HS256 은 SecretKey, 그 외는 PrivateKey)
+     * @return : 서명 정보가 지정된 builder
+     */
+    public abstract JwtBuilder sign(JwtBuilder builder, Key signingKey);
+
+}
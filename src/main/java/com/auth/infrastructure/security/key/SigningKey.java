@@ -0,0 +1,30 @@
+package com.auth.infrastructure.security.key;
+
+import lombok.Getter;
+
+import java.security.Key;
+
+/**
+ * 키 링에 등록된 서명 키
+ * - signingKey 가 있으면 활성(서명에 사용) 키, 없으면 검증에만 사용하는 은퇴 중인 키
+ */
+@Getter
+public class SigningKey {
+
+    private final String kid;
+    private final SigningAlgorithm algorithm;
+    private final Key signingKey;
+    private final Key verificationKey;
+
+    public SigningKey(String kid, SigningAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        this.kid = kid;
+        this.algorithm = algorithm;
+        this.signingKey = signingKey;
+        this.verificationKey = verificationKey;
+    }
+
+    public boolean isActive() {
+        return signingKey != null;
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.auth.infrastructure.security.key;
+
+import com.auth.common.util.HashUtils;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * JWT 서명 키 링
+ * - 활성 키 1개로 서명하고, 활성 키 + 은퇴 중인 키로 검증한다. (토큰 헤더의 kid 로 키 선택)
+ * - 비대칭 알고리즘(ES256, EdDSA)의 키는 인스턴스에서 생성하지 않고 jwt.signing.key-location 디렉터리의
+ *   PEM 파일에서 읽는다. 모든 인스턴스가 같은 키 파일(secret volume 등)을 읽으므로 재시작/다른 인스턴스에서도
+ *   같은 kid 로 검증된다.
+ *   - {kid}.pub : 공개키 (검증용, 은퇴 중인 키 포함)
+ *   - {kid}.key : 활성 키의 개인키 (디렉터리에 하나만)
+ * - 키 교체 : 새 {kid}.pub 를 먼저 배포 -> 개인키를 새 {kid}.key 로 교체 -> 이전 {kid}.pub 는 token.time 이후 삭제
+ *   (디렉터리는 jwt.signing.reload-interval 마다 다시 읽는다.)
+ * - HS256 은 기존과 동일하게 jwt.secret.key 하나만 사용한다.
+ * - 키 목록은 불변 객체로 만들어 volatile 참조만 바꾸므로 조회에는 lock 이 없다.
+ */
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+    static final String PUBLIC_KEY_SUFFIX = ".pub";
+    static final String PRIVATE_KEY_SUFFIX = ".key";
+
+    private final SigningAlgorithm algorithm;
+    private final Path keyLocation;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Ring ring;
+
+    public SigningKeyRing(@Value("${jwt.signing.algorithm:HS256}") SigningAlgorithm algorithm,
+                          @Value("${jwt.secret.key:}") String secretKey,
+                          @Value("${jwt.signing.key-location:}") String keyLocation,
+                          ApplicationEventPublisher eventPublisher) {
+        this.algorithm = algorithm;
+        this.eventPublisher = eventPublisher;
+
+        if (algorithm.isAsymmetric()) {
+            if (!StringUtils.hasText(keyLocation)) {
+                throw new IllegalStateException("jwt.signing.key-location is required for " + algorithm);
+            }
+            this.keyLocation = Path.of(keyLocation);
+            try {
+                this.ring = load();
+            } catch (IOException | GeneralSecurityException | IllegalArgumentException exception) {
+                throw new IllegalStateException("Failed to load " + algorithm + " keys from " + keyLocation, exception);
+            }
+        } else {
+            this.keyLocation = null;
+            SigningKey key = secretKey(secretKey);
+            this.ring = new Ring(key, Map.of(key.getKid(), key));
+        }
+        log.info("Signing key ring initialized. algorithm: {}, kid: {}, keys: {}", algorithm, ring.active.getKid(), ring.keys.size());
+    }
+
+    public SigningAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 서명에 사용할 활성 키
+     *
+     * @return : 활성 키
+     */
+    public SigningKey getActiveKey() {
+        return ring.active;
+    }
+
+    /**
+     * kid 에 해당하는 검증 키 조회
+     * - kid 가 없는 토큰(키 링 도입 이전에 발급된 토큰)은 HS256 일 때만 활성 키로 검증한다.
+     *
+     * @param kid : 토큰 헤더의 kid
+     * @return : 검증 키, 없으면 null
+     */
+    public Key findVerificationKey(String kid) {
+        Ring current = ring;
+        if (kid == null) {
+            return algorithm.isAsymmetric() ? null : current.active.getVerificationKey();
+        }
+        SigningKey signingKey = current.keys.get(kid);
+        return signingKey == null ? null : signingKey.getVerificationKey();
+    }
+
+    /**
+     * 검증에 사용 가능한 모든 키 (활성 키 + 은퇴 중인 키)
+     *
+     * @return : 키 목록
+     */
+    public List<SigningKey> getKeys() {
+        return List.copyOf(ring.keys.values());
+    }
+
+    /**
+     * 키 디렉터리 다시 읽기
+     * - 활성 kid 나 kid 목록이 바뀐 경우에만 키 링을 교체하고 SigningKeysChangedEvent 발행
+     * - 읽기에 실패하면 (교체 중 일부 파일만 있는 경우 등) 기존 키 링을 유지
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval:60000}",
+            initialDelayString = "${jwt.signing.reload-interval:60000}")
+    public synchronized void reload() {
+        if (!algorithm.isAsymmetric()) {
+            return;
+        }
+
+        Ring loaded;
+        try {
+            loaded = load();
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException exception) {
+            log.error("Failed to reload signing keys. keep kid: {}", ring.active.getKid(), exception);
+            return;
+        }
+
+        Ring current = ring;
+        if (loaded.active.getKid().equals(current.active.getKid()) && loaded.keys.keySet().equals(current.keys.keySet())) {
+            return;
+        }
+
+        ring = loaded;
+        log.info("Signing keys reloaded. kid: {}, keys: {}", loaded.active.getKid(), loaded.keys.keySet());
+        eventPublisher.publishEvent(new SigningKeysChangedEvent(new ArrayList<>(loaded.keys.values())));
+    }
+
+    // {kid}.pub 전부를 검증 키로, 유일한 {kid}.key 를 활성 키로 읽기
+    private Ring load() throws IOException, GeneralSecurityException {
+        Map<String, PublicKey> publicKeys = new TreeMap<>();
+        Map<String, PrivateKey> privateKeys = new TreeMap<>();
+        try (Stream<Path> files = Files.list(keyLocation)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PUBLIC_KEY_SUFFIX)) {
+                    publicKeys.put(kid(name, PUBLIC_KEY_SUFFIX), PemKeys.publicKey(algorithm, read(file)));
+                } else if (name.endsWith(PRIVATE_KEY_SUFFIX)) {
+                    privateKeys.put(kid(name, PRIVATE_KEY_SUFFIX), PemKeys.privateKey(algorithm, read(file)));
+                }
+            }
+        }
+
+        if (privateKeys.size() != 1) {
+            throw new IllegalArgumentException("Exactly one private key expected, found: " + privateKeys.keySet());
+        }
+        Map.Entry<String, PrivateKey> activeEntry = privateKeys.entrySet().iterator().next();
+        String activeKid = activeEntry.getKey();
+        PublicKey activePublicKey = publicKeys.get(activeKid);
+        if (activePublicKey == null || !PemKeys.isKeyPair(algorithm, activeEntry.getValue(), activePublicKey)) {
+            throw new IllegalArgumentException("No matching public key for kid: " + activeKid);
+        }
+
+        Map<String, SigningKey> keys = new TreeMap<>();
+        publicKeys.forEach((kid, publicKey) -> keys.put(kid, new SigningKey(kid, algorithm,
+                kid.equals(activeKid) ? activeEntry.getValue() : null, publicKey)));
+        return new Ring(keys.get(activeKid), Collections.unmodifiableMap(keys));
+    }
+
+    private static String kid(String fileName, String suffix) {
+        return fileName.substring(0, fileName.length() - suffix.length());
+    }
+
+    private static String read(Path file) throws IOException {
+        return Files.readString(file, StandardCharsets.US_ASCII);
+    }
+
+    // 설정된 secret 으로 HS256 키 생성 (kid 는 secret 의 해시 일부)
+    private SigningKey secretKey(String secretKey) {
+        Key key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        String kid = HashUtils.sha256(secretKey).substring(0, 16);
+        return new SigningKey(kid, algorithm, key, key);
+    }
+
+    // 활성 키와 kid -> 키 목록 (불변)
+    private static final class Ring {
+
+        private final SigningKey active;
+        private final Map<String, SigningKey> keys;
+
+        private Ring(SigningKey active, Map<String, SigningKey> keys) {
+            this.active = active;
+            this.keys = keys;
+        }
+
+    }
+
+}
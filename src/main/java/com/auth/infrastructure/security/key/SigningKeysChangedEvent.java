@@ -0,0 +1,21 @@
+package com.auth.infrastructure.security.key;
+
+import java.util.List;
+
+/**
+ * 키 링이 교체(rotation)되었을 때 발행되는 이벤트
+ * - 공개키 목록을 외부에 제공하는 컴포넌트는 이 이벤트로 응답을 다시 만든다.
+ */
+public class SigningKeysChangedEvent {
+
+    private final List<SigningKey> keys;
+
+    public SigningKeysChangedEvent(List<SigningKey> keys) {
+        this.keys = keys;
+    }
+
+    public List<SigningKey> getKeys() {
+        return keys;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.auth.presentation.api;
+
+import com.auth.common.dto.ErrorResponse;
+import com.auth.infrastructure.security.UserDetailsImpl;
+import com.auth.presentation.dto.BulkRoleChangeRequest;
+import com.auth.presentation.dto.BulkRoleChangeResponse;
+import com.auth.presentation.dto.UserImportResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.io.IOException;
+
+@Tag(name = "관리자 사용자 API", description = "관리자용 사용자 관리 API 모음")
+public interface AdminUserApi {
+
+    // 사용자 일괄 가져오기
+    @Operation(summary = "사용자 일괄 가져오기",
+            description = "CSV(username,password,nickname) 또는 NDJSON 본문으로 사용자를 일괄 생성하는 API (행별 결과를 NDJSON 으로 스트리밍)")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "가져오기 처리 (행별 성공/실패는 결과의 created, error 로 확인)",
+                            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = UserImportResult.class))),
+                    @ApiResponse(responseCode = "400", description = "관리자 권한 없음",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    // 권한 일괄 변경
+    @Operation(summary = "권한 일괄 변경", description = "사용자 ID 목록 또는 사용자명 패턴(* 와일드카드)에 해당하는 사용자의 권한을 한 번에 변경하는 API")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "권한 일괄 변경 성공",
+                            content = @Content(schema = @Schema(implementation = BulkRoleChangeResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "권한 일괄 변경 실패",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    ResponseEntity<com.auth.presentation.dto.ApiResponse<BulkRoleChangeResponse>> switchRoles(
+            @Valid @RequestBody BulkRoleChangeRequest request, @AuthenticationPrincipal UserDetailsImpl userDetails);
+
+}
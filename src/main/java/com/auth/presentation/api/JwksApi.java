@@ -0,0 +1,22 @@
+package com.auth.presentation.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "JWKS API", description = "토큰 검증용 공개키 API")
+public interface JwksApi {
+
+    // 공개키 목록 조회
+    @Operation(summary = "공개키 목록 조회", description = "JWT 서명 검증에 사용하는 공개키 목록(JWK Set)을 조회하는 API (ETag, If-None-Match 지원)")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "공개키 목록 조회 성공"),
+                    @ApiResponse(responseCode = "304", description = "공개키 목록 변경 없음")
+            }
+    )
+    ResponseEntity<byte[]> jwks();
+
+}
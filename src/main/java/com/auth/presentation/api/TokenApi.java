@@ -0,0 +1,64 @@
+package com.auth.presentation.api;
+
+import com.auth.common.dto.ErrorResponse;
+import com.auth.presentation.dto.LoginResponse;
+import com.auth.presentation.dto.RefreshTokenRequest;
+import com.auth.presentation.dto.RevokeTokenResponse;
+import com.auth.presentation.dto.TokenIntrospectionRequest;
+import com.auth.presentation.dto.TokenIntrospectionResponse;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.io.IOException;
+
+@Tag(name = "토큰 API", description = "토큰 API 모음")
+public interface TokenApi {
+
+    // 토큰 재발급
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 액세스 토큰과 리프레시 토큰을 재발급하는 API (사용한 리프레시 토큰은 폐기)")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "토큰 재발급 성공",
+                            content = @Content(schema = @Schema(implementation = LoginResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "토큰 재발급 실패",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    ResponseEntity<com.auth.presentation.dto.ApiResponse<LoginResponse>> refresh(
+            @Valid @RequestBody RefreshTokenRequest request);
+
+    // 토큰 폐기 (로그아웃)
+    @Operation(summary = "토큰 폐기", description = "현재 요청의 Authorization 토큰을 폐기하는 API (로그아웃)")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "토큰 폐기 성공",
+                            content = @Content(schema = @Schema(implementation = RevokeTokenResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "토큰 폐기 실패",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    ResponseEntity<com.auth.presentation.dto.ApiResponse<RevokeTokenResponse>> revoke(HttpServletRequest request);
+
+    // 토큰 일괄 검증
+    @Operation(summary = "토큰 일괄 검증", description = "여러 액세스 토큰을 한 번에 검증해 토큰별 사용자명, 권한, 만료 시각 또는 실패 사유를 반환하는 API (결과는 chunk 단위로 스트리밍)")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "토큰 일괄 검증 성공",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TokenIntrospectionResponse.class)))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    void introspect(@Valid @RequestBody TokenIntrospectionRequest request, HttpServletResponse response) throws IOException;
+
+}
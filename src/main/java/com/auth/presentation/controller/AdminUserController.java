@@ -0,0 +1,65 @@
+package com.auth.presentation.controller;
+
+import com.auth.application.aop.ValidateAdmin;
+import com.auth.application.service.AuthService;
+import com.auth.application.service.UserImportService;
+import com.auth.infrastructure.security.UserDetailsImpl;
+import com.auth.presentation.api.AdminUserApi;
+import com.auth.presentation.dto.ApiResponse;
+import com.auth.presentation.dto.BulkRoleChangeRequest;
+import com.auth.presentation.dto.BulkRoleChangeResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+public class AdminUserController implements AdminUserApi {
+
+    private final UserImportService userImportService;
+    private final AuthService authService;
+
+    /**
+     * 사용자 일괄 가져오기
+     * - 요청 본문을 읽으면서 처리하고, 행별 결과를 chunk 단위로 응답 스트림에 바로 기록 (NDJSON)
+     *
+     * @param request  : CSV(text/csv) 또는 NDJSON(application/x-ndjson) 본문
+     * @param response : 행별 생성 결과를 기록할 응답
+     */
+    @ValidateAdmin(roles = {"ADMIN"})
+    @PostMapping(value = "/admin/users/import", consumes = {UserImportService.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        userImportService.importUsers(request.getInputStream(), MediaType.parseMediaType(request.getContentType()),
+                response.getOutputStream());
+    }
+
+    /**
+     * 여러 사용자의 권한 일괄 변경
+     *
+     * @param request     : 대상 사용자 ID 목록 또는 사용자명 패턴, 변경할 권한
+     * @param userDetails : 권한을 변경하는 사용자
+     * @return : 권한이 변경된 사용자 수와 사용자명 목록
+     */
+    @ValidateAdmin(roles = {"ADMIN"})
+    @PatchMapping("/admin/users/roles")
+    public ResponseEntity<ApiResponse<BulkRoleChangeResponse>> switchRoles(@Valid @RequestBody BulkRoleChangeRequest request,
+                                                                           @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        BulkRoleChangeResponse response = authService.switchRoles(request, userDetails.getUser());
+        return ResponseEntity.ok(new ApiResponse<>(response));
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.auth.presentation.controller;
+
+import com.auth.infrastructure.security.key.JwksPublisher;
+import com.auth.presentation.api.JwksApi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+public class JwksController implements JwksApi {
+
+    private final JwksPublisher jwksPublisher;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwksPublisher jwksPublisher,
+                          @Value("${jwks.cache.max-age:5m}") Duration maxAge) {
+        this.jwksPublisher = jwksPublisher;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    /**
+     * 공개키 목록 조회
+     * - If-None-Match 가 현재 ETag 와 같으면 body 없이 304 응답 (HttpEntityMethodProcessor 에서 처리)
+     *
+     * @return : 직렬화된 JWK Set
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> jwks() {
+        return ResponseEntity.ok()
+                .eTag(jwksPublisher.getEtag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jwksPublisher.getBody());
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.auth.presentation.controller;
+
+import com.auth.application.service.TokenIntrospectionService;
+import com.auth.application.service.TokenService;
+import com.auth.common.advice.ErrorResponseWriter;
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.presentation.api.TokenApi;
+import com.auth.presentation.dto.ApiResponse;
+import com.auth.presentation.dto.LoginResponse;
+import com.auth.presentation.dto.RefreshTokenRequest;
+import com.auth.presentation.dto.RevokeTokenResponse;
+import com.auth.presentation.dto.TokenIntrospectionRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class TokenController implements TokenApi {
+
+    private final TokenService tokenService;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final JwtUtil jwtUtil;
+
+    /**
+     * 토큰 재발급
+     *
+     * @param request : 리프레시 토큰
+     * @return : 재발급된 액세스 토큰과 리프레시 토큰
+     */
+    @PostMapping("/token/refresh")
+    public ResponseEntity<ApiResponse<LoginResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        LoginResponse response = tokenService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(new ApiResponse<>(response));
+    }
+
+    /**
+     * 토큰 폐기 (로그아웃)
+     *
+     * @param request : Authorization 헤더에 폐기할 토큰이 담긴 요청
+     * @return : 폐기된 토큰 정보
+     */
+    @PostMapping("/token/revoke")
+    public ResponseEntity<ApiResponse<RevokeTokenResponse>> revoke(HttpServletRequest request) {
+        RevokeTokenResponse response = tokenService.revoke(jwtUtil.getJwtFromHeader(request));
+        return ResponseEntity.ok(new ApiResponse<>(response));
+    }
+
+    /**
+     * 토큰 일괄 검증 (게이트웨이용)
+     * - 결과를 chunk 단위로 응답 스트림에 바로 기록 ({"data":[...]})
+     *
+     * @param request  : 검증할 토큰 목록
+     * @param response : 토큰별 사용자명, 권한, 만료 시각 또는 실패 사유를 기록할 응답
+     */
+    @PostMapping("/token/introspect/batch")
+    public void introspect(@Valid @RequestBody TokenIntrospectionRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(ErrorResponseWriter.CONTENT_TYPE.toString());
+        tokenIntrospectionService.writeIntrospection(request.getTokens(), response.getOutputStream());
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.auth.presentation.dto;
+
+import com.auth.domain.entity.UserRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// userIds 와 usernamePattern 중 하나만 지정
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRoleChangeRequest {
+
+    @Size(max = 10000, message = "한 번에 변경할 수 있는 사용자 ID 는 최대 10000개입니다.")
+    @Schema(description = "권한을 변경할 사용자 ID 목록", example = "[1, 2, 3]")
+    private List<Long> userIds;
+
+    @Schema(description = "권한을 변경할 사용자명 패턴 (* 는 임의의 문자열)", example = "team-a-*")
+    private String usernamePattern;
+
+    @NotNull(message = "변경할 권한은 필수 입력 값입니다.")
+    @Schema(description = "변경할 권한", example = "ADMIN")
+    private UserRole role;
+
+}
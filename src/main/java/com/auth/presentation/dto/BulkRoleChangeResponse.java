@@ -0,0 +1,23 @@
+package com.auth.presentation.dto;
+
+import com.auth.domain.entity.UserRole;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkRoleChangeResponse {
+
+    @Schema(description = "변경된 권한", example = "ADMIN")
+    private final UserRole role;
+
+    @Schema(description = "권한이 변경된 사용자 수", example = "2")
+    private final int updatedCount;
+
+    @Schema(description = "권한이 변경된 사용자명 목록", example = "[\"team-a-1\", \"team-a-2\"]")
+    private final List<String> usernames;
+
+}
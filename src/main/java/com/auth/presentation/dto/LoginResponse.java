@@ -0,0 +1,17 @@
+package com.auth.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LoginResponse {
+
+    @Schema(description = "액세스 토큰", example = "Bearer eKDIkdfjoakIdkfjpekdkcjdkoIOdjOKJDFOlLDKFJKL")
+    private final String token;
+
+    @Schema(description = "리프레시 토큰", example = "q3k9Z0d8l1xv2mA7cQ4yR6tB5nE0sW8uJ1hG2fK3pL4")
+    private final String refreshToken;
+
+}
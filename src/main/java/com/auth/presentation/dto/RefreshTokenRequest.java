@@ -0,0 +1,20 @@
+package com.auth.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "리프레시 토큰은 필수 입력 값입니다.")
+    @Schema(description = "리프레시 토큰", example = "q3k9Z0d8l1xv2mA7cQ4yR6tB5nE0sW8uJ1hG2fK3pL4")
+    private String refreshToken;
+
+}
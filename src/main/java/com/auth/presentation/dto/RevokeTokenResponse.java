@@ -0,0 +1,23 @@
+package com.auth.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokeTokenResponse {
+
+    @Schema(description = "폐기된 토큰 식별자(jti)", example = "3f1c2a7e-7c1b-4d7a-9a57-1a2b3c4d5e6f")
+    private String jti;
+
+    @Schema(description = "토큰 만료 시각", example = "2025-01-01T00:00:00Z")
+    private Instant expiresAt;
+
+}
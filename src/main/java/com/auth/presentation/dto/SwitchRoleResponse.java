@@ -1,6 +1,5 @@
 package com.auth.presentation.dto;
 
-import com.auth.domain.entity.User;
 import com.auth.domain.entity.UserRole;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -24,11 +23,11 @@ public class SwitchRoleResponse {
 
     private List<RoleDto> roles;
 
-    public static SwitchRoleResponse from(User user) {
+    public static SwitchRoleResponse of(String username, String nickname, UserRole role) {
         return SwitchRoleResponse.builder()
-                .username(user.getUsername())
-                .nickname(user.getNickname())
-                .roles(List.of(new RoleDto(user.getUserRole())))
+                .username(username)
+                .nickname(nickname)
+                .roles(List.of(new RoleDto(role)))
                 .build();
     }
 
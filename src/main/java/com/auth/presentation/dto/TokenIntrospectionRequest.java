@@ -0,0 +1,24 @@
+package com.auth.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionRequest {
+
+    @NotEmpty(message = "검증할 토큰은 필수 입력 값입니다.")
+    @Size(max = 10000, message = "한 번에 검증할 수 있는 토큰은 최대 10000개입니다.")
+    @Schema(description = "검증할 액세스 토큰 목록 (Bearer 접두사는 있어도 무시)", example = "[\"eyJhbGciOiJIUzI1NiJ9...\"]")
+    private List<String> tokens;
+
+}
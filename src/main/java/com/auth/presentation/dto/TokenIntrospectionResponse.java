@@ -0,0 +1,38 @@
+package com.auth.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionResponse {
+
+    @Schema(description = "유효한 토큰 여부", example = "true")
+    private final boolean active;
+
+    @Schema(description = "사용자명(sub)", example = "username")
+    private final String sub;
+
+    @Schema(description = "사용자 권한", example = "USER")
+    private final String role;
+
+    @Schema(description = "토큰 만료 시각", example = "2025-01-01T00:00:00Z")
+    private final Instant exp;
+
+    @Schema(description = "검증 실패 사유 (EXPIRED, INVALID_SIGNATURE, MALFORMED, UNSUPPORTED, EMPTY, REVOKED)", example = "EXPIRED")
+    private final String error;
+
+    public static TokenIntrospectionResponse active(String sub, String role, Instant exp) {
+        return new TokenIntrospectionResponse(true, sub, role, exp, null);
+    }
+
+    public static TokenIntrospectionResponse inactive(String error) {
+        return new TokenIntrospectionResponse(false, null, null, null, error);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.auth.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResult {
+
+    @Schema(description = "요청 본문의 줄 번호 (1부터)", example = "2")
+    private final long line;
+
+    @Schema(description = "사용자명(아이디)", example = "username")
+    private final String username;
+
+    @Schema(description = "생성 여부", example = "true")
+    private final boolean created;
+
+    @Schema(description = "생성된 사용자 ID", example = "1")
+    private final Long userId;
+
+    @Schema(description = "실패 사유 (INVALID_INPUT_VALUE, USER_ALREADY_EXISTS, SERVER_BUSY)", example = "USER_ALREADY_EXISTS")
+    private final String error;
+
+    public static UserImportResult created(long line, String username, Long userId) {
+        return new UserImportResult(line, username, true, userId, null);
+    }
+
+    public static UserImportResult failed(long line, String username, String error) {
+        return new UserImportResult(line, username, false, null, error);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.auth.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자 일괄 가져오기의 한 행 (NDJSON 한 줄 / CSV 한 줄)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRow {
+
+    @Schema(description = "사용자명(아이디)", example = "username")
+    private String username;
+
+    @Schema(description = "비밀번호", example = "password")
+    private String password;
+
+    @Schema(description = "닉네임", example = "nickname")
+    private String nickname;
+
+}
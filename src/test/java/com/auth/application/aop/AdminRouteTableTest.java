@@ -0,0 +1,52 @@
+package com.auth.application.aop;
+
+import com.auth.domain.entity.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminRouteTableTest {
+
+    @Autowired
+    private AdminRouteTable adminRouteTable;
+
+    @Test
+    @DisplayName("@ValidateAdmin handler 경로가 권한 표에 등록된다")
+    void routes_registered() {
+        assertThat(adminRouteTable.getRoutes())
+                .extracting(AdminRouteTable.AdminRoute::getHandler)
+                .contains("AuthController#switchRole", "TestController#getTestAdmin");
+    }
+
+    @Test
+    @DisplayName("요청 경로와 메서드로 허용 권한 조회")
+    void findAllowedRoles() {
+        assertThat(adminRouteTable.findAllowedRoles(new MockHttpServletRequest("PATCH", "/admin/users/1/roles")))
+                .containsExactly(UserRole.ADMIN);
+        assertThat(adminRouteTable.findAllowedRoles(new MockHttpServletRequest("GET", "/admin/users/1/roles")))
+                .isNull();
+        assertThat(adminRouteTable.findAllowedRoles(new MockHttpServletRequest("GET", "/api/test")))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("인코딩된 경로도 디코딩 후 허용 권한 조회")
+    void findAllowedRoles_encoded() {
+        assertThat(adminRouteTable.findAllowedRoles(new MockHttpServletRequest("PATCH", "/%61dmin/users/1/roles")))
+                .containsExactly(UserRole.ADMIN);
+        assertThat(adminRouteTable.findAllowedRoles(new MockHttpServletRequest("PATCH", "/%61dmin/users/roles")))
+                .containsExactly(UserRole.ADMIN);
+        assertThat(adminRouteTable.findAllowedRoles(new MockHttpServletRequest("GET", "/api/test/%61dmin")))
+                .containsExactly(UserRole.ADMIN);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.auth.application.service;
+
+import com.auth.common.exception.CustomException;
+import com.auth.common.exception.ErrorCode;
+import com.auth.infrastructure.repository.UserRepository;
+import com.auth.presentation.dto.SignUpRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제로 커밋되어야 unique 제약조건 경합이 발생하므로 @Transactional 을 붙이지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceConcurrencyTest {
+
+    private static final String USERNAME = "concurrentuser";
+    private static final int ATTEMPTS = 2000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // BCrypt 해싱 비용을 빼고 INSERT 경합만 측정
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void cleanup() {
+        userRepository.findByUsername(USERNAME).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("동시 중복 회원가입 테스트_하나만 성공하고 나머지는 USER_ALREADY_EXISTS")
+    void signup_concurrent_duplicate_username() throws Exception {
+        // given
+        Mockito.when(passwordEncoder.encode(ArgumentMatchers.anyString())).thenReturn("encoded");
+
+        SignUpRequest request = SignUpRequest.builder()
+                .username(USERNAME)
+                .password("secure123!")
+                .nickname("nickname")
+                .build();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < ATTEMPTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        authService.signUp(request);
+                        succeeded.incrementAndGet();
+                    } catch (CustomException exception) {
+                        if (exception.getErrorCode() == ErrorCode.USER_ALREADY_EXISTS) {
+                            duplicated.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                // 다른 예외(500 원인)가 있으면 여기서 실패
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(duplicated.get()).isEqualTo(ATTEMPTS - 1);
+        assertThat(userRepository.findByUsername(USERNAME)).isPresent();
+    }
+
+}
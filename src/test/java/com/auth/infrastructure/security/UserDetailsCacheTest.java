@@ -0,0 +1,114 @@
+package com.auth.infrastructure.security;
+
+import com.auth.domain.entity.UserRole;
+import com.auth.domain.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserDetailsCacheTest {
+
+    private final UserDetailsCache cache = new UserDetailsCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("조회 중 무효화되면 이전 값이 캐시에 남지 않고 다음 조회에서 새 권한을 읽는다")
+    void invalidateDuringLoad_newRoleSeen() {
+        // 조회(DB read) 직후, 저장 전에 권한 변경 커밋 이벤트가 도착한 상황
+        UserSnapshot stale = cache.get("username", username -> {
+            UserSnapshot snapshot = snapshot(username, UserRole.USER);
+            cache.onUserChanged(new UserChangedEvent(username));
+            return snapshot;
+        });
+        assertThat(stale.getUserRole()).isEqualTo(UserRole.USER);
+
+        UserSnapshot current = cache.get("username", username -> snapshot(username, UserRole.ADMIN));
+
+        assertThat(current.getUserRole()).isEqualTo(UserRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("같은 사용자명의 동시 miss 는 한 번만 조회한다")
+    void concurrentMiss_loadedOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<UserSnapshot> first = executor.submit(() -> cache.get("username", username -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return snapshot(username, UserRole.USER);
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<UserSnapshot> second = executor.submit(() -> cache.get("username", username -> {
+                loads.incrementAndGet();
+                return snapshot(username, UserRole.USER);
+            }));
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("username");
+            assertThat(second.get(5, TimeUnit.SECONDS).getUsername()).isEqualTo("username");
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 실패는 원래 예외로 전달되고 캐시에 남지 않는다")
+    void loadFailure_notCached() {
+        assertThatThrownBy(() -> cache.get("missing", username -> {
+            throw new UsernameNotFoundException(username);
+        })).isInstanceOf(UsernameNotFoundException.class);
+
+        assertThat(cache.get("missing", username -> snapshot(username, UserRole.USER)).getUsername())
+                .isEqualTo("missing");
+    }
+
+    @Test
+    @DisplayName("비활성화 시 캐시 metrics 를 등록하지 않고 매번 조회한다")
+    void disabled_noCacheMetrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserDetailsCache disabledCache = new UserDetailsCache(false, 100, Duration.ofMinutes(1), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        disabledCache.get("username", username -> snapshot(username, UserRole.USER, loads));
+        disabledCache.get("username", username -> snapshot(username, UserRole.USER, loads));
+        disabledCache.invalidate("username");
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+        assertThat(meterRegistry.find("auth.user.load").timer().count()).isEqualTo(2);
+    }
+
+    private static UserSnapshot snapshot(String username, UserRole role, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return snapshot(username, role);
+    }
+
+    private static UserSnapshot snapshot(String username, UserRole role) {
+        return new UserSnapshot(1L, username, "{bcrypt}password", role, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
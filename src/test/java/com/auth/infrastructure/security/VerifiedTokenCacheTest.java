@@ -0,0 +1,114 @@
+package com.auth.infrastructure.security;
+
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.security.key.SigningAlgorithm;
+import com.auth.infrastructure.security.key.SigningKeyRing;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 검증은 캐시 hit")
+    void verifyToken_hitAfterMiss() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        JwtUtil jwtUtil = jwtUtil(cache);
+        String token = jwtUtil.createToken(1L, "testuser", UserRole.USER).substring(JwtUtil.BEARER_PREFIX.length());
+
+        assertThat(jwtUtil.verifyToken(token).isValid()).isTrue();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isZero();
+
+        TokenVerification cached = jwtUtil.verifyToken(token);
+
+        assertThat(cached.isValid()).isTrue();
+        assertThat(cached.getClaims().getSubject()).isEqualTo("testuser");
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시에 저장하지 않음")
+    void verifyToken_invalidNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        JwtUtil jwtUtil = jwtUtil(cache);
+
+        assertThat(jwtUtil.verifyToken("weird.token").isValid()).isFalse();
+        assertThat(jwtUtil.verifyToken("weird.token").isValid()).isFalse();
+
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("entry 는 토큰의 exp 시점에 만료")
+    void put_expiresAtTokenExpiration() throws InterruptedException {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        Claims claims = Jwts.claims()
+                .subject("testuser")
+                .expiration(new Date(System.currentTimeMillis() + 200))
+                .build();
+
+        cache.put("token", claims);
+        assertThat(cache.get("token")).isNotNull();
+
+        Thread.sleep(400);
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    @DisplayName("exp 가 없는 claims 는 저장하지 않음")
+    void put_withoutExpiration_ignored() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+
+        cache.put("token", Jwts.claims().subject("testuser").build());
+
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("jwt.cache.enabled=false 이면 저장/조회하지 않고 통계도 기록하지 않음")
+    void disabled_bypassesCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(false, 100);
+        JwtUtil jwtUtil = jwtUtil(cache);
+        String token = jwtUtil.createToken(1L, "testuser", UserRole.USER).substring(JwtUtil.BEARER_PREFIX.length());
+
+        assertThat(jwtUtil.verifyToken(token).isValid()).isTrue();
+        assertThat(jwtUtil.verifyToken(token).isValid()).isTrue();
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get(token)).isNull();
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static JwtUtil jwtUtil(VerifiedTokenCache cache) {
+        SigningKeyRing signingKeyRing = new SigningKeyRing(SigningAlgorithm.HS256, randomSecret(), "", event -> {
+        });
+        JwtUtil util = new JwtUtil(cache, signingKeyRing);
+        ReflectionTestUtils.setField(util, "TOKEN_TIME", TimeUnit.HOURS.toMillis(1));
+        util.init();
+        return util;
+    }
+
+    private static String randomSecret() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+}
@@ -19,6 +19,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.net.URI;
 import java.util.concurrent.TimeUnit;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -102,6 +103,35 @@ class JwtTest {
                 .andExpect(jsonPath("$.data").value("ADMIN"));
     }
 
+    @Test
+    @DisplayName("사용자 - ADMIN 전용 API 접근 실패")
+    void user_access_admin_error() throws Exception {
+        mockMvc.perform(get("/api/test/admin")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, validUserToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.ACCESS_DENIED.toString()));
+    }
+
+    @Test
+    @DisplayName("사용자 - 인코딩된 경로로 ADMIN 전용 API 접근 실패")
+    void user_access_admin_encoded_error() throws Exception {
+        // URI 를 직접 넘겨 %61 (a) 가 그대로 전달되도록 함
+        mockMvc.perform(get(URI.create("/api/test/%61dmin"))
+                        .header(JwtUtil.AUTHORIZATION_HEADER, validUserToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.ACCESS_DENIED.toString()));
+    }
+
+    @Test
+    @DisplayName("사용자 - actuator 접근 실패")
+    void user_access_actuator_error() throws Exception {
+        mockMvc.perform(get("/actuator/health")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, validUserToken))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("토큰이 없는 상태로 인증이 필요한 API에 접근")
     void access_fail_notoken() throws Exception {
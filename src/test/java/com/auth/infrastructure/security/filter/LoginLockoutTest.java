@@ -0,0 +1,84 @@
+package com.auth.infrastructure.security.filter;
+
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class LoginLockoutTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String username = "lockoutuser";
+    private String password = "password";
+
+    @BeforeEach
+    void signup() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password(password)
+                .nickname("nickname")
+                .build();
+
+        mockMvc.perform(post("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    @Test
+    @DisplayName("연속 5회 로그인 실패 시 올바른 비밀번호로도 로그인 불가")
+    void login_error_locked() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            login(username, "wrongpassword")
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error.code").value("INVALID_CREDENTIALS"));
+        }
+
+        login(username, password)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("ACCOUNT_LOCKED"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자명도 같은 방식으로 잠김")
+    void login_error_lockedUnknownUser() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            login("unknownlockoutuser", password)
+                    .andExpect(jsonPath("$.error.code").value("INVALID_CREDENTIALS"));
+        }
+
+        login("unknownlockoutuser", password)
+                .andExpect(jsonPath("$.error.code").value("ACCOUNT_LOCKED"));
+    }
+
+    private ResultActions login(String username, String password) throws Exception {
+        return mockMvc.perform(post("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(username, password))));
+    }
+
+}
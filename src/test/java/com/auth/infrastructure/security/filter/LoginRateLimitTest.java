@@ -0,0 +1,98 @@
+package com.auth.infrastructure.security.filter;
+
+import com.auth.presentation.dto.LoginRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "login.rate-limit.ip.permits-per-second=0.001",
+        "login.rate-limit.ip.burst=3",
+        "login.rate-limit.username.permits-per-second=0.001",
+        "login.rate-limit.username.burst=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class LoginRateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("같은 IP 에서 허용량을 넘으면 429")
+    void login_error_clientRateLimited() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            login("10.0.0.1", "user" + i)
+                    .andExpect(status().isBadRequest());
+        }
+
+        login("10.0.0.1", "user3")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.error.code").value("TOO_MANY_REQUESTS"))
+                .andDo(print());
+
+        // 다른 IP 는 영향 없음
+        login("10.0.0.2", "user4")
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("같은 사용자명으로 허용량을 넘으면 IP 가 달라도 429")
+    void login_error_usernameRateLimited() throws Exception {
+        login("10.0.1.1", "target").andExpect(status().isBadRequest());
+        login("10.0.1.2", "target").andExpect(status().isBadRequest());
+
+        login("10.0.1.3", "target")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.error.code").value("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    @DisplayName("인코딩된 경로로 요청해도 같은 IP 제한 적용")
+    void login_error_encodedPathRateLimited() throws Exception {
+        login("10.0.2.1", "encoded0").andExpect(status().isBadRequest());
+        login(URI.create("/log%69n"), "10.0.2.1", "encoded1").andExpect(status().isBadRequest());
+        login(URI.create("/log%69n"), "10.0.2.1", "encoded2").andExpect(status().isBadRequest());
+
+        login(URI.create("/log%69n"), "10.0.2.1", "encoded3")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.error.code").value("TOO_MANY_REQUESTS"));
+    }
+
+    private ResultActions login(String clientIp, String username) throws Exception {
+        return login(URI.create("/login"), clientIp, username);
+    }
+
+    private ResultActions login(URI uri, String clientIp, String username) throws Exception {
+        return mockMvc.perform(post(uri)
+                .with(request -> {
+                    request.setRemoteAddr(clientIp);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest(username, "password"))));
+    }
+
+}
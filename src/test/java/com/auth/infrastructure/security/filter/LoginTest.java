@@ -1,20 +1,26 @@
 package com.auth.infrastructure.security.filter;
 
+import com.auth.infrastructure.repository.UserRepository;
 import com.auth.presentation.dto.LoginRequest;
 import com.auth.presentation.dto.SignUpRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -32,6 +38,13 @@ class LoginTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    // 가입되지 않은 사용자명의 DB 조회 여부 확인
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
     private String username = "username";
     private String password = "password";
     private String nickname = "nickname";
@@ -71,6 +84,17 @@ class LoginTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("bcrypt 외의 id 로 저장된 기존 비밀번호도 검증")
+    void legacy_password_matches() {
+        String pbkdf2 = Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode(password);
+
+        assertThat(passwordEncoder.matches(password, "{noop}" + password)).isTrue();
+        assertThat(passwordEncoder.matches(password, "{pbkdf2@SpringSecurity_v5_8}" + pbkdf2)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding("{noop}" + password)).isTrue();
+        assertThat(passwordEncoder.encode(password)).startsWith("{bcrypt}");
+    }
+
     @Test
     @DisplayName("로그인 실패 테스트_사용자명 오류")
     void login_error_username() throws Exception {
@@ -99,5 +123,71 @@ class LoginTest {
                 .andExpect(jsonPath("$.error.code").value("INVALID_CREDENTIALS"));
     }
 
-}
+    @Test
+    @DisplayName("로그인 실패 테스트_가입되지 않은 사용자명은 DB 조회 없이 실패")
+    void login_error_unknown_username_no_query() throws Exception {
+        // given
+        LoginRequest loginRequest = new LoginRequest("ghostuser", password);
+
+        // when & then
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_CREDENTIALS"));
+
+        Mockito.verify(userRepository, Mockito.never()).findCredentialsByUsername("ghostuser");
+    }
+
+    @Test
+    @DisplayName("로그인 실패 테스트_사용자명 오류와 비밀번호 오류의 응답 본문이 같음")
+    void login_error_same_body() throws Exception {
+        // given
+        String unknownUsernameBody = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("emanresu", password))))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        // when
+        String wrongPasswordBody = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, "drowssap"))))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(unknownUsernameBody).isEqualTo(wrongPasswordBody);
+    }
+
+    @Test
+    @DisplayName("가입되지 않은 사용자명으로 로그인 실패 후 가입하면 로그인 성공")
+    void login_after_signup_success() throws Exception {
+        // given : 가입 전 로그인 실패
+        LoginRequest loginRequest = new LoginRequest("newcomer", password);
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_CREDENTIALS"));
+
+        // when : 같은 사용자명으로 가입
+        SignUpRequest request = SignUpRequest.builder()
+                .username("newcomer")
+                .password(password)
+                .nickname("newcomer")
+                .build();
+        mockMvc.perform(post("/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists());
+    }
 
+}
@@ -0,0 +1,119 @@
+package com.auth.infrastructure.security.filter;
+
+import com.auth.common.advice.ErrorResponseWriter;
+import com.auth.common.exception.ErrorCode;
+import com.auth.infrastructure.security.PasswordHashExecutor;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 해싱 스레드 1개, 대기열 0 으로 해싱 executor 를 포화시킨 뒤 SERVER_BUSY 응답 확인
+ */
+@SpringBootTest(properties = {"password.hash.concurrency=1", "password.hash.queue-capacity=0"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class PasswordHashSaturationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PasswordHashExecutor passwordHashExecutor;
+
+    @Autowired
+    private ErrorResponseWriter errorResponseWriter;
+
+    private final ExecutorService blocker = Executors.newSingleThreadExecutor();
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Future<Boolean> blockingTask;
+
+    private String username = "username";
+    private String password = "password";
+
+    @BeforeEach
+    void signup_saturate() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password(password)
+                .nickname("nickname")
+                .build();
+
+        mockMvc.perform(post("/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // 유일한 해싱 스레드를 점유
+        blockingTask = blocker.submit(() -> passwordHashExecutor.execute(() -> {
+            hashing.countDown();
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        hashing.await(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void release() throws Exception {
+        release.countDown();
+        blockingTask.get(5, TimeUnit.SECONDS);
+        blocker.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("해싱 executor 포화 시 로그인은 SERVER_BUSY(503)")
+    void login_serverBusy() throws Exception {
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().bytes(errorResponseWriter.getBody(ErrorCode.SERVER_BUSY)));
+    }
+
+    @Test
+    @DisplayName("해싱 executor 포화 시 회원가입은 SERVER_BUSY(503)")
+    void signup_serverBusy() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username("busyuser")
+                .password(password)
+                .nickname("busynickname")
+                .build();
+
+        mockMvc.perform(post("/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().bytes(errorResponseWriter.getBody(ErrorCode.SERVER_BUSY)));
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.auth.infrastructure.security.filter;
+
+import com.auth.infrastructure.repository.UserRepository;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 보정된 strength 보다 낮은 strength 로 저장된 bcrypt 비밀번호는 로그인 시 재해싱
+ * - 보정을 끄고 strength 를 고정해 결과를 확인
+ */
+@SpringBootTest(properties = {"password.hash.calibration.enabled=false", "password.hash.strength=5"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class PasswordRehashTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String username = "username";
+    private String password = "password";
+
+    @BeforeEach
+    void signup() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password(password)
+                .nickname("nickname")
+                .build();
+
+        mockMvc.perform(post("/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("낮은 strength 의 bcrypt 비밀번호는 로그인 후 보정된 strength 로 재해싱")
+    void login_rehash_lowerCost() throws Exception {
+        // given : strength 4 로 저장된 기존 비밀번호
+        userRepository.updatePassword(username, "{bcrypt}" + new BCryptPasswordEncoder(4).encode(password));
+
+        // when
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(status().isOk());
+
+        // then
+        String stored = userRepository.findCredentialsByUsername(username).orElseThrow().getPassword();
+        assertThat(stored).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches(password, stored)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(stored)).isFalse();
+    }
+
+}
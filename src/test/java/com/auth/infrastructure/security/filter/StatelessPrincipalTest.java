@@ -0,0 +1,151 @@
+package com.auth.infrastructure.security.filter;
+
+import com.auth.common.exception.ErrorCode;
+import com.auth.infrastructure.repository.UserRepository;
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.presentation.dto.AdminSignUpRequest;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * security.principal.stateless=true 일 때 claims 만으로 만든 principal 의 권한 검사
+ */
+@SpringBootTest(properties = "security.principal.stateless=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class StatelessPrincipalTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${admin.key}")
+    private String adminKey;
+
+    private String username = "username";
+    private String adminUsername = "admin";
+
+    private String userToken;
+    private String adminToken;
+
+    @BeforeEach
+    void signup_login() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password("password")
+                .nickname("nickname")
+                .build();
+
+        AdminSignUpRequest adminRequest = AdminSignUpRequest.builder()
+                .username(adminUsername)
+                .password("password")
+                .nickname("admin1")
+                .adminKey(adminKey)
+                .build();
+
+        mockMvc.perform(post("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        mockMvc.perform(post("/admin/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)));
+
+        userToken = login(username);
+        adminToken = login(adminUsername);
+    }
+
+    @Test
+    @DisplayName("관리자 - ADMIN 전용 API 접근 성공")
+    void admin_access_success() throws Exception {
+        mockMvc.perform(get("/api/test/admin")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("ADMIN"));
+    }
+
+    @Test
+    @DisplayName("사용자 - ADMIN 전용 API 접근 실패")
+    void user_access_admin_error() throws Exception {
+        mockMvc.perform(get("/api/test/admin")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, userToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.ACCESS_DENIED.toString()));
+    }
+
+    @Test
+    @DisplayName("관리자 - 권한 변경 성공")
+    void admin_role_change_success() throws Exception {
+        Long targetUserId = userRepository.findByUsername(username).orElseThrow().getUserId();
+
+        mockMvc.perform(patch("/admin/users/" + targetUserId + "/roles")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, adminToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("사용자 - 권한 변경 실패")
+    void user_role_change_error() throws Exception {
+        Long targetUserId = userRepository.findByUsername(adminUsername).orElseThrow().getUserId();
+
+        mockMvc.perform(patch("/admin/users/" + targetUserId + "/roles")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, userToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.ACCESS_DENIED.toString()));
+    }
+
+    @Test
+    @DisplayName("권한 claim 이 없는 토큰 - 인증 필요 API 접근 실패")
+    void missing_role_claim_error() throws Exception {
+        // 권한 없이 발급 (null claim 은 토큰에 포함되지 않음)
+        String token = jwtUtil.createToken(1L, username, null);
+
+        mockMvc.perform(get("/api/test")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.INVALID_TOKEN.toString()));
+    }
+
+    private String login(String loginUsername) throws Exception {
+        MvcResult loginResult = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(loginUsername, "password"))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+}
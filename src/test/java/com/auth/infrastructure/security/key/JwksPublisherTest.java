@@ -0,0 +1,48 @@
+package com.auth.infrastructure.security.key;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwksPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path keyLocation;
+
+    @Test
+    @DisplayName("같은 키 파일을 읽은 인스턴스는 같은 JWKS 와 ETag 를 응답한다")
+    void sharedKeys_sameJwksAndEtag() throws Exception {
+        TestSigningKeys.writeKeyPair(keyLocation, "key-1");
+        TestSigningKeys.writeKeyPair(keyLocation, "key-0");
+        // 은퇴 중인 키는 공개키만 남김
+        Files.delete(keyLocation.resolve("key-0" + SigningKeyRing.PRIVATE_KEY_SUFFIX));
+
+        JwksPublisher first = publisher();
+        JwksPublisher second = publisher();
+
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(second.getEtag()).isEqualTo(first.getEtag());
+
+        JsonNode keys = objectMapper.readTree(first.getBody()).get("keys");
+        assertThat(keys).hasSize(2);
+        assertThat(keys.get(0).get("kid").asText()).isEqualTo("key-0");
+        assertThat(keys.get(1).get("kid").asText()).isEqualTo("key-1");
+        assertThat(keys.get(0).has("d")).isFalse();
+    }
+
+    private JwksPublisher publisher() {
+        SigningKeyRing keyRing = new SigningKeyRing(SigningAlgorithm.EdDSA, "", keyLocation.toString(), event -> {
+        });
+        return new JwksPublisher(objectMapper, keyRing);
+    }
+
+}
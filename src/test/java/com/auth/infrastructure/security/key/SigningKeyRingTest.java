@@ -0,0 +1,144 @@
+package com.auth.infrastructure.security.key;
+
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.infrastructure.security.TokenVerification;
+import com.auth.infrastructure.security.VerifiedTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningKeyRingTest {
+
+    private final List<Object> events = new ArrayList<>();
+
+    @TempDir
+    Path keyLocation;
+
+    private SigningKeyRing keyRing;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TestSigningKeys.writeKeyPair(keyLocation, "key-1");
+        keyRing = new SigningKeyRing(SigningAlgorithm.EdDSA, "", keyLocation.toString(), events::add);
+        jwtUtil = jwtUtil(keyRing);
+    }
+
+    @Test
+    @DisplayName("같은 키 파일을 읽은 인스턴스끼리는 서로 발급한 토큰을 검증한다")
+    void sharedKeys_verifiedByOtherInstance() {
+        SigningKeyRing otherRing = new SigningKeyRing(SigningAlgorithm.EdDSA, "", keyLocation.toString(), event -> {
+        });
+
+        assertThat(otherRing.getActiveKey().getKid()).isEqualTo("key-1");
+        assertThat(jwtUtil(otherRing).verifyToken(token()).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 은퇴한 키로 서명된 토큰은 검증된다")
+    void reload_keepsRetiringKey() throws Exception {
+        String oldToken = token();
+
+        // 새 공개키 배포 후 개인키 교체
+        Files.delete(keyLocation.resolve("key-1" + SigningKeyRing.PRIVATE_KEY_SUFFIX));
+        TestSigningKeys.writeKeyPair(keyLocation, "key-2");
+        keyRing.reload();
+
+        assertThat(keyRing.getActiveKey().getKid()).isEqualTo("key-2");
+        assertThat(keyRing.getKeys()).hasSize(2);
+        assertThat(jwtUtil.verifyToken(oldToken).isValid()).isTrue();
+        assertThat(jwtUtil.verifyToken(token()).isValid()).isTrue();
+        assertThat(events).hasSize(1);
+
+        // 바뀐 파일이 없으면 이벤트 없음
+        keyRing.reload();
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("개인키가 여러 개면 기존 키 링을 유지한다")
+    void reload_invalidKeys_keepsCurrentRing() throws Exception {
+        TestSigningKeys.writeKeyPair(keyLocation, "key-2");
+        keyRing.reload();
+
+        assertThat(keyRing.getActiveKey().getKid()).isEqualTo("key-1");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키 링에 없는 kid 로 서명된 토큰은 거부된다")
+    void unknownKid_rejected() throws Exception {
+        Path otherLocation = Files.createDirectory(keyLocation.resolve("other"));
+        TestSigningKeys.writeKeyPair(otherLocation, "other");
+        SigningKeyRing otherRing = new SigningKeyRing(SigningAlgorithm.EdDSA, "", otherLocation.toString(), event -> {
+        });
+
+        String foreignToken = jwtUtil(otherRing).createToken(1L, "testuser", UserRole.USER)
+                .substring(JwtUtil.BEARER_PREFIX.length());
+
+        assertThat(jwtUtil.verifyToken(foreignToken).getFailure())
+                .isEqualTo(TokenVerification.Failure.INVALID_SIGNATURE);
+    }
+
+    @Test
+    @DisplayName("키 링에서 제거된 kid 의 토큰은 검증 캐시에 있어도 거부된다")
+    void reload_removedKid_evictsVerifiedTokens() throws Exception {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(true, 100);
+        SigningKeyRing cachedRing = new SigningKeyRing(SigningAlgorithm.EdDSA, "", keyLocation.toString(), event -> {
+            if (event instanceof SigningKeysChangedEvent changed) {
+                verifiedTokenCache.onSigningKeysChanged(changed);
+            }
+        });
+        JwtUtil cachedJwtUtil = jwtUtil(cachedRing, verifiedTokenCache);
+
+        String oldToken = cachedJwtUtil.createToken(1L, "testuser", UserRole.USER)
+                .substring(JwtUtil.BEARER_PREFIX.length());
+        assertThat(cachedJwtUtil.verifyToken(oldToken).isValid()).isTrue();
+        assertThat(verifiedTokenCache.size()).isEqualTo(1);
+
+        // key-1 을 키 링에서 완전히 제거
+        Files.delete(keyLocation.resolve("key-1" + SigningKeyRing.PRIVATE_KEY_SUFFIX));
+        Files.delete(keyLocation.resolve("key-1" + SigningKeyRing.PUBLIC_KEY_SUFFIX));
+        TestSigningKeys.writeKeyPair(keyLocation, "key-2");
+        cachedRing.reload();
+
+        assertThat(cachedRing.getKeys()).hasSize(1);
+        assertThat(verifiedTokenCache.size()).isZero();
+        assertThat(cachedJwtUtil.verifyToken(oldToken).isValid()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비대칭 알고리즘은 키 디렉터리 설정이 없으면 시작하지 않는다")
+    void asymmetric_withoutKeyLocation_fails() {
+        assertThatThrownBy(() -> new SigningKeyRing(SigningAlgorithm.ES256, "", "", event -> {
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    private JwtUtil jwtUtil(SigningKeyRing signingKeyRing) {
+        return jwtUtil(signingKeyRing, new VerifiedTokenCache(false, 0));
+    }
+
+    private JwtUtil jwtUtil(SigningKeyRing signingKeyRing, VerifiedTokenCache verifiedTokenCache) {
+        JwtUtil util = new JwtUtil(verifiedTokenCache, signingKeyRing);
+        ReflectionTestUtils.setField(util, "TOKEN_TIME", TimeUnit.HOURS.toMillis(1));
+        util.init();
+        return util;
+    }
+
+    private String token() {
+        return jwtUtil.createToken(1L, "testuser", UserRole.USER).substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+}
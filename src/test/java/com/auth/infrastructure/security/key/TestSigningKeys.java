@@ -0,0 +1,31 @@
+package com.auth.infrastructure.security.key;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+/**
+ * 테스트용 Ed25519 키 파일 생성
+ * - SigningKeyRing 이 읽는 {kid}.pub, {kid}.key PEM 파일로 저장
+ */
+final class TestSigningKeys {
+
+    private TestSigningKeys() {
+    }
+
+    static void writeKeyPair(Path location, String kid) throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        Files.writeString(location.resolve(kid + SigningKeyRing.PUBLIC_KEY_SUFFIX), pem("PUBLIC KEY", keyPair.getPublic()));
+        Files.writeString(location.resolve(kid + SigningKeyRing.PRIVATE_KEY_SUFFIX), pem("PRIVATE KEY", keyPair.getPrivate()));
+    }
+
+    private static String pem(String type, Key key) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(key.getEncoded())
+                + "\n-----END " + type + "-----\n";
+    }
+
+}
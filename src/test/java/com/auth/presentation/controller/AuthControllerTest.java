@@ -1,6 +1,7 @@
 package com.auth.presentation.controller;
 
 import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.security.JwtUtil;
 import com.auth.presentation.dto.AdminSignUpRequest;
 import com.auth.presentation.dto.SignUpRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -59,6 +60,26 @@ class AuthControllerTest {
     }
 
 
+    @Test
+    @DisplayName("회원가입 성공 테스트_유효하지 않은 Authorization 헤더는 무시")
+    void signup_success_staleToken() throws Exception {
+        // given
+        SignUpRequest request = SignUpRequest.builder()
+                .username("staletoken")
+                .password("secure123!")
+                .nickname("nickname")
+                .build();
+
+        // when & then
+        mockMvc.perform(post("/signup")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, JwtUtil.BEARER_PREFIX + "stale.token.value")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.username").value("staletoken"))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("관리자 회원가입 성공 테스트")
     void signup_success_admin() throws Exception {
@@ -0,0 +1,116 @@
+package com.auth.presentation.controller;
+
+import com.auth.common.exception.ErrorCode;
+import com.auth.infrastructure.repository.UserRepository;
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.presentation.dto.AdminSignUpRequest;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 캐시 무효화는 커밋 후에 실행되므로 @Transactional 을 붙이지 않고 직접 정리한다.
+@SpringBootTest(properties = {"user.cache.enabled=true", "user.cache.ttl=1h"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthRoleChangeCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${admin.key}")
+    private String adminKey;
+
+    private String username = "cacheuser";
+    private String adminUsername = "cacheadmin";
+
+    @BeforeEach
+    void signup_success_user_admin() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password("password")
+                .nickname("cachenickname")
+                .build();
+
+        AdminSignUpRequest adminRequest = AdminSignUpRequest.builder()
+                .username(adminUsername)
+                .password("password")
+                .nickname("cacheadmin1")
+                .adminKey(adminKey)
+                .build();
+
+        mockMvc.perform(post("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        mockMvc.perform(post("/admin/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)));
+    }
+
+    @AfterEach
+    void cleanup() {
+        userRepository.findByUsername(username).ifPresent(userRepository::delete);
+        userRepository.findByUsername(adminUsername).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("권한 변경 후 캐시 TTL 을 기다리지 않고 다음 요청에 새 권한이 적용된다")
+    void role_change_visible_without_ttl() throws Exception {
+        // given : 일반 사용자로 요청해 캐시에 USER 권한을 적재
+        String userToken = login(username);
+        mockMvc.perform(get("/api/test/admin")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, userToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.ACCESS_DENIED.toString()));
+
+        // when : 관리자가 권한 변경 (커밋 후 캐시 무효화)
+        Long targetUserId = userRepository.findByUsername(username).orElseThrow().getUserId();
+        mockMvc.perform(patch("/admin/users/" + targetUserId + "/roles")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, login(adminUsername))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // then : 같은 토큰으로 바로 ADMIN 전용 API 접근 가능
+        mockMvc.perform(get("/api/test/admin")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, userToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("ADMIN"))
+                .andDo(print());
+    }
+
+    private String login(String loginUsername) throws Exception {
+        MvcResult loginResult = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(loginUsername, "password"))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+}
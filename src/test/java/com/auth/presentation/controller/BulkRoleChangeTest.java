@@ -0,0 +1,231 @@
+package com.auth.presentation.controller;
+
+import com.auth.application.service.AuthService;
+import com.auth.common.exception.CustomException;
+import com.auth.common.exception.ErrorCode;
+import com.auth.domain.entity.User;
+import com.auth.domain.entity.UserRole;
+import com.auth.infrastructure.repository.UserRepository;
+import com.auth.presentation.dto.AdminSignUpRequest;
+import com.auth.presentation.dto.BulkRoleChangeRequest;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class BulkRoleChangeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Value("${admin.key}")
+    private String adminKey;
+
+    private String adminUsername = "bulkadmin";
+    private List<String> usernames = List.of("team-a-1", "team-a-2", "team-b-1", "team_a_3");
+
+    @BeforeEach
+    void signup() throws Exception {
+        for (String username : usernames) {
+            SignUpRequest request = SignUpRequest.builder()
+                    .username(username)
+                    .password("password")
+                    .nickname("nickname")
+                    .build();
+            mockMvc.perform(post("/signup")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)));
+        }
+
+        AdminSignUpRequest adminRequest = AdminSignUpRequest.builder()
+                .username(adminUsername)
+                .password("password")
+                .nickname("admin")
+                .adminKey(adminKey)
+                .build();
+        mockMvc.perform(post("/admin/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)));
+    }
+
+    @Test
+    @DisplayName("권한 일괄 변경 성공 테스트_사용자명 패턴")
+    void bulk_role_change_pattern_success() throws Exception {
+        // given
+        BulkRoleChangeRequest request = BulkRoleChangeRequest.builder()
+                .usernamePattern("team-a-*")
+                .role(UserRole.ADMIN)
+                .build();
+
+        // when & then
+        mockMvc.perform(patch("/admin/users/roles")
+                        .header("Authorization", login(adminUsername))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.updatedCount").value(2))
+                .andExpect(jsonPath("$.data.usernames[0]").value("team-a-1"))
+                .andExpect(jsonPath("$.data.usernames[1]").value("team-a-2"))
+                .andDo(print());
+
+        assertThat(findRole("team-a-1")).isEqualTo(UserRole.ADMIN);
+        assertThat(findRole("team-a-2")).isEqualTo(UserRole.ADMIN);
+        assertThat(findRole("team-b-1")).isEqualTo(UserRole.USER);
+        assertThat(findRole("team_a_3")).isEqualTo(UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("권한 일괄 변경 성공 테스트_사용자명 패턴의 _ 는 문자 그대로 비교")
+    void bulk_role_change_pattern_escape_success() throws Exception {
+        // given
+        BulkRoleChangeRequest request = BulkRoleChangeRequest.builder()
+                .usernamePattern("team_a_*")
+                .role(UserRole.ADMIN)
+                .build();
+
+        // when & then
+        mockMvc.perform(patch("/admin/users/roles")
+                        .header("Authorization", login(adminUsername))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.updatedCount").value(1))
+                .andExpect(jsonPath("$.data.usernames[0]").value("team_a_3"))
+                .andDo(print());
+
+        assertThat(findRole("team-a-1")).isEqualTo(UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("권한 일괄 변경 성공 테스트_사용자 ID 목록 (없는 ID, 이미 같은 권한인 사용자 제외)")
+    void bulk_role_change_ids_success() throws Exception {
+        // given
+        Long userId = userRepository.findByUsername("team-b-1").map(User::getUserId).orElseThrow();
+        Long adminId = userRepository.findByUsername(adminUsername).map(User::getUserId).orElseThrow();
+
+        BulkRoleChangeRequest request = BulkRoleChangeRequest.builder()
+                .userIds(List.of(userId, adminId, Long.MAX_VALUE))
+                .role(UserRole.ADMIN)
+                .build();
+
+        // when & then
+        mockMvc.perform(patch("/admin/users/roles")
+                        .header("Authorization", login(adminUsername))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.updatedCount").value(1))
+                .andExpect(jsonPath("$.data.usernames[0]").value("team-b-1"))
+                .andDo(print());
+
+        assertThat(findRole("team-b-1")).isEqualTo(UserRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("권한 일괄 변경 실패 테스트_대상 지정 방식 중복")
+    void bulk_role_change_error_invalid_target() throws Exception {
+        // given
+        BulkRoleChangeRequest request = BulkRoleChangeRequest.builder()
+                .userIds(List.of(1L))
+                .usernamePattern("team-*")
+                .role(UserRole.ADMIN)
+                .build();
+
+        // when & then
+        mockMvc.perform(patch("/admin/users/roles")
+                        .header("Authorization", login(adminUsername))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT_VALUE"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("권한 일괄 변경 실패 테스트_관리자 권한 X")
+    void bulk_role_change_error_notadmin() throws Exception {
+        // given
+        BulkRoleChangeRequest request = BulkRoleChangeRequest.builder()
+                .usernamePattern("team-*")
+                .role(UserRole.ADMIN)
+                .build();
+
+        // when & then
+        mockMvc.perform(patch("/admin/users/roles")
+                        .header("Authorization", login("team-a-1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("ACCESS_DENIED"))
+                .andDo(print());
+
+        assertThat(findRole("team-a-1")).isEqualTo(UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("권한 일괄 변경 실패 테스트_서비스 호출 시 관리자 권한 X")
+    void bulk_role_change_service_error_notadmin() {
+        // given
+        User user = userRepository.findByUsername("team-a-1").orElseThrow();
+        BulkRoleChangeRequest request = BulkRoleChangeRequest.builder()
+                .usernamePattern("team-*")
+                .role(UserRole.ADMIN)
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> authService.switchRoles(request, user))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ACCESS_DENIED);
+
+        assertThat(findRole("team-a-1")).isEqualTo(UserRole.USER);
+    }
+
+    private UserRole findRole(String username) {
+        return userRepository.findByUsername(username).map(User::getUserRole).orElseThrow();
+    }
+
+    private String login(String username) throws Exception {
+        MvcResult loginResult = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, "password"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.auth.presentation.controller;
+
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.RefreshTokenRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RefreshTokenTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String username = "username";
+    private String password = "password";
+
+    private String token;
+    private String refreshToken;
+
+    @BeforeEach
+    void signup_login() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password(password)
+                .nickname("nickname")
+                .build();
+
+        mockMvc.perform(post("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        MvcResult loginResult = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andReturn();
+
+        JsonNode loginBody = objectMapper.readTree(loginResult.getResponse().getContentAsString());
+        token = loginBody.get("token").asText();
+        refreshToken = loginBody.get("refreshToken").asText();
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 성공 테스트")
+    void refresh_success() throws Exception {
+        mockMvc.perform(post("/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.token").exists())
+                .andExpect(jsonPath("$.data.refreshToken").exists())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 테스트_리프레시 토큰 재사용")
+    void refresh_error_reuse() throws Exception {
+        // given
+        MvcResult result = mockMvc.perform(post("/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode jsonNode = objectMapper.readTree(result.getResponse().getContentAsString());
+        String rotated = jsonNode.get("data").get("refreshToken").asText();
+
+        // when : 이미 사용한 리프레시 토큰 재사용
+        mockMvc.perform(post("/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_REFRESH_TOKEN"));
+
+        // then : 회전된 토큰도 함께 폐기
+        mockMvc.perform(post("/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(rotated))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_REFRESH_TOKEN"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 테스트_로그아웃 후 리프레시 토큰 사용")
+    void refresh_error_afterLogout() throws Exception {
+        // given : 로그아웃
+        mockMvc.perform(post("/token/revoke")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, token))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(post("/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_REFRESH_TOKEN"))
+                .andDo(print());
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.auth.presentation.controller;
+
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.auth.presentation.dto.TokenIntrospectionRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class TokenIntrospectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String username = "username";
+    private String password = "password";
+
+    private String token;
+
+    @BeforeEach
+    void signup_login() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password(password)
+                .nickname("nickname")
+                .build();
+
+        mockMvc.perform(post("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        MvcResult loginResult = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        token = objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("토큰 일괄 검증 - 토큰별 결과를 요청 순서대로 반환")
+    void introspect_success() throws Exception {
+        TokenIntrospectionRequest request = new TokenIntrospectionRequest(List.of(token, "invalid.token.value", ""));
+
+        mockMvc.perform(post("/token/introspect/batch")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].active").value(true))
+                .andExpect(jsonPath("$.data[0].sub").value(username))
+                .andExpect(jsonPath("$.data[0].role").value("USER"))
+                .andExpect(jsonPath("$.data[0].exp").exists())
+                .andExpect(jsonPath("$.data[1].active").value(false))
+                .andExpect(jsonPath("$.data[1].error").exists())
+                .andExpect(jsonPath("$.data[2].error").value("EMPTY"))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("토큰 일괄 검증 - 큰 배치(병렬 검증)")
+    void introspect_largeBatch() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            tokens.add(i % 2 == 0 ? token : "invalid");
+        }
+
+        mockMvc.perform(post("/token/introspect/batch")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenIntrospectionRequest(tokens))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2000))
+                .andExpect(jsonPath("$.data[1998].active").value(true))
+                .andExpect(jsonPath("$.data[1999].active").value(false));
+    }
+
+    @Test
+    @DisplayName("토큰 일괄 검증 - 빈 목록 요청 실패")
+    void introspect_error_empty() throws Exception {
+        mockMvc.perform(post("/token/introspect/batch")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TokenIntrospectionRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
+}
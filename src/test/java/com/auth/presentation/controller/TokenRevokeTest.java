@@ -0,0 +1,87 @@
+package com.auth.presentation.controller;
+
+import com.auth.infrastructure.security.JwtUtil;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class TokenRevokeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String username = "username";
+    private String password = "password";
+
+    private String token;
+
+    @BeforeEach
+    void signup_login() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password(password)
+                .nickname("nickname")
+                .build();
+
+        mockMvc.perform(post("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        MvcResult loginResult = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        token = objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 후 같은 토큰으로 API 접근 실패")
+    void revoke_success() throws Exception {
+        // when
+        mockMvc.perform(post("/token/revoke")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.jti").exists())
+                .andDo(print());
+
+        // then
+        mockMvc.perform(get("/api/test")
+                        .header(JwtUtil.AUTHORIZATION_HEADER, token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_TOKEN"));
+    }
+
+    @Test
+    @DisplayName("토큰 없이 폐기 요청 실패")
+    void revoke_error_notoken() throws Exception {
+        mockMvc.perform(post("/token/revoke"))
+                .andExpect(status().isForbidden());
+    }
+
+}
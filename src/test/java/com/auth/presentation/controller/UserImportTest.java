@@ -0,0 +1,174 @@
+package com.auth.presentation.controller;
+
+import com.auth.infrastructure.repository.UserRepository;
+import com.auth.presentation.dto.AdminSignUpRequest;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class UserImportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${admin.key}")
+    private String adminKey;
+
+    private String username = "importuser";
+    private String adminUsername = "importadmin";
+
+    @BeforeEach
+    void signup() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password("password")
+                .nickname("nickname")
+                .build();
+
+        AdminSignUpRequest adminRequest = AdminSignUpRequest.builder()
+                .username(adminUsername)
+                .password("password")
+                .nickname("admin")
+                .adminKey(adminKey)
+                .build();
+
+        mockMvc.perform(post("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        mockMvc.perform(post("/admin/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)));
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 가져오기 성공 테스트_CSV")
+    void import_csv_success() throws Exception {
+        // given
+        String csv = """
+                username,password,nickname
+                imported1,password,nickname1
+                "imported2","pass,word","nick ""2""\"
+                imported1,password,nickname1
+                importuser,password,nickname
+                broken,row
+                """;
+
+        // when
+        MvcResult result = mockMvc.perform(post("/admin/users/import")
+                        .header("Authorization", login(adminUsername))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andReturn();
+
+        // then
+        List<JsonNode> rows = readLines(result);
+        assertThat(rows).hasSize(5);
+        assertThat(rows.get(0).get("line").asLong()).isEqualTo(2);
+        assertThat(rows.get(0).get("created").asBoolean()).isTrue();
+        assertThat(rows.get(0).get("userId").isNumber()).isTrue();
+        assertThat(rows.get(1).get("username").asText()).isEqualTo("imported2");
+        assertThat(rows.get(1).get("created").asBoolean()).isTrue();
+        assertThat(rows.get(2).get("error").asText()).isEqualTo("USER_ALREADY_EXISTS");
+        assertThat(rows.get(3).get("error").asText()).isEqualTo("USER_ALREADY_EXISTS");
+        assertThat(rows.get(4).get("error").asText()).isEqualTo("INVALID_INPUT_VALUE");
+
+        assertThat(userRepository.findByUsername("imported2"))
+                .hasValueSatisfying(user -> assertThat(user.getNickname()).isEqualTo("nick \"2\""));
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 가져오기 성공 테스트_NDJSON")
+    void import_ndjson_success() throws Exception {
+        // given
+        String ndjson = """
+                {"username":"imported3","password":"password","nickname":"nickname3"}
+                {"username":"imported4","password":"","nickname":"nickname4"}
+                not json
+                """;
+
+        // when
+        MvcResult result = mockMvc.perform(post("/admin/users/import")
+                        .header("Authorization", login(adminUsername))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andReturn();
+
+        // then
+        List<JsonNode> rows = readLines(result);
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).get("created").asBoolean()).isTrue();
+        assertThat(rows.get(1).get("error").asText()).isEqualTo("INVALID_INPUT_VALUE");
+        assertThat(rows.get(2).get("error").asText()).isEqualTo("INVALID_INPUT_VALUE");
+        assertThat(userRepository.findByUsername("imported3")).isPresent();
+        assertThat(userRepository.findByUsername("imported4")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 일괄 가져오기 실패 테스트_관리자 권한 X")
+    void import_error_notadmin() throws Exception {
+        mockMvc.perform(post("/admin/users/import")
+                        .header("Authorization", login(username))
+                        .contentType("text/csv")
+                        .content("imported5,password,nickname5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("ACCESS_DENIED"))
+                .andDo(print());
+
+        assertThat(userRepository.findByUsername("imported5")).isEmpty();
+    }
+
+    private String login(String username) throws Exception {
+        MvcResult loginResult = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(username, "password"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private List<JsonNode> readLines(MvcResult result) throws Exception {
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            rows.add(objectMapper.readTree(line));
+        }
+        return rows;
+    }
+
+}
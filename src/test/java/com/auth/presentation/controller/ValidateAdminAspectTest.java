@@ -0,0 +1,149 @@
+package com.auth.presentation.controller;
+
+import com.auth.application.aop.AllowedRoles;
+import com.auth.application.aop.ValidateAdmin;
+import com.auth.application.aop.ValidateAdminAspect;
+import com.auth.common.exception.ErrorCode;
+import com.auth.domain.entity.UserRole;
+import com.auth.presentation.dto.AdminSignUpRequest;
+import com.auth.presentation.dto.LoginRequest;
+import com.auth.presentation.dto.SignUpRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * security.admin-check.mode=aspect 일 때 @ValidateAdmin 권한 확인
+ */
+@SpringBootTest(properties = "security.admin-check.mode=aspect")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ValidateAdminAspectTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ValidateAdminAspect validateAdminAspect;
+
+    @Value("${admin.key}")
+    private String adminKey;
+
+    private String username = "username";
+    private String adminUsername = "admin";
+
+    @BeforeEach
+    void signup_success_user_admin() throws Exception {
+        SignUpRequest request = SignUpRequest.builder()
+                .username(username)
+                .password("password")
+                .nickname("nickname")
+                .build();
+
+        AdminSignUpRequest adminRequest = AdminSignUpRequest.builder()
+                .username(adminUsername)
+                .password("password")
+                .nickname("admin1")
+                .adminKey(adminKey)
+                .build();
+
+        mockMvc.perform(post("/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+
+        mockMvc.perform(post("/admin/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(adminRequest)));
+    }
+
+    @Test
+    @DisplayName("관리자 - pointcut 에 바인딩된 어노테이션으로 권한 확인 후 메서드별로 한 번만 변환")
+    void admin_access_success_cached() throws Exception {
+        String token = login(adminUsername);
+
+        mockMvc.perform(get("/api/test/admin").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("ADMIN"));
+
+        Method method = TestController.class.getMethod("getTestAdmin");
+        Set<UserRole> cached = allowedRolesCache().get(method);
+        assertThat(cached).containsExactly(UserRole.ADMIN);
+
+        // 두 번째 호출은 같은 EnumSet 을 재사용
+        mockMvc.perform(get("/api/test/admin").header("Authorization", token))
+                .andExpect(status().isOk());
+        assertThat(allowedRolesCache().get(method)).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("사용자 - ADMIN 전용 API 접근 실패")
+    void user_access_admin_error() throws Exception {
+        mockMvc.perform(get("/api/test/admin").header("Authorization", login(username)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.ACCESS_DENIED.toString()));
+    }
+
+    @Test
+    @DisplayName("ROLE_ 접두사 권한은 허용하고, 알 수 없는 권한은 메서드 이름과 함께 실패")
+    void allowedRoles_of() throws Exception {
+        Method prefixed = getClass().getDeclaredMethod("prefixedRole");
+        Method unknown = getClass().getDeclaredMethod("unknownRole");
+
+        assertThat(AllowedRoles.of(prefixed, prefixed.getAnnotation(ValidateAdmin.class)))
+                .containsExactly(UserRole.ADMIN);
+        assertThatThrownBy(() -> AllowedRoles.of(unknown, unknown.getAnnotation(ValidateAdmin.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SUPERUSER")
+                .hasMessageContaining(getClass().getName() + "#unknownRole");
+    }
+
+    @ValidateAdmin(roles = {"ROLE_ADMIN"})
+    private void prefixedRole() {
+    }
+
+    @ValidateAdmin(roles = {"SUPERUSER"})
+    private void unknownRole() {
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Method, Set<UserRole>> allowedRolesCache() {
+        return (Map<Method, Set<UserRole>>) ReflectionTestUtils.getField(validateAdminAspect, "allowedRolesCache");
+    }
+
+    private String login(String loginUsername) throws Exception {
+        MvcResult loginResult = mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(loginUsername, "password"))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        return objectMapper.readTree(loginResult.getResponse().getContentAsString()).get("token").asText();
+    }
+
+}